@@ -291,15 +291,12 @@ public abstract class AbstractAzureMojo extends AbstractMojo {
     @JsonIgnore
     private final String sessionId = UUID.randomUUID().toString();
 
-    @Getter
-    @JsonIgnore
-    private final String installationId = Optional.ofNullable(InstallationIdUtils.getHashMac()).orElse("");
-
     //region Entry Point
 
     @Override
     public void execute() throws MojoExecutionException {
         try {
+            InstallationIdUtils.prefetchInstallationId();
             MavenActionManager.register();
             AzureTaskManager.register(new MavenAzureTaskManager());
             AzureMessager.setDefaultMessager(new MavenAzureMessager());
@@ -363,6 +360,11 @@ public abstract class AbstractAzureMojo extends AbstractMojo {
         return plugin.getVersion();
     }
 
+    @JsonIgnore
+    public String getInstallationId() {
+        return Optional.ofNullable(InstallationIdUtils.getInstallationId()).orElse("");
+    }
+
     public String getUserAgent() {
         return BooleanUtils.isNotFalse(allowTelemetry) ? String.format("%s/%s %s:%s %s:%s", getPluginName(), getPluginVersion(),
             INSTALLATION_ID_KEY, getInstallationId(), SESSION_ID_KEY, getSessionId())
@@ -44,4 +44,7 @@ public class Constants{
     public static final String DEFAULT_ENVIRONMENTAL_VARIABLES = "NO_ENVIRONMENTAL_VARS";
     public static final String DEFAULT_PEM_FILE_PATH = "NO_PEM_PATH";
     public static final String DEFAULT_SECRET_CONTENT_TYPE = "text/plain";
+    public static final long DEFAULT_COMMAND_TIMEOUT_MINUTES = 30;
+    public static final long DEFAULT_PROBE_TIMEOUT_MINUTES = 1;
+    public static final String DEFAULT_DEPLOYMENT_PARALLELISM = "4";
 }
@@ -40,6 +40,19 @@ public class DeployMojo extends AbstractMojo {
     @Parameter(property = "location", defaultValue = Constants.DEFAULT_LOCATION)
     String location;
 
+    /**
+     * Max number of resources deployed concurrently
+     */
+    @Parameter(property = "deploymentParallelism", defaultValue = Constants.DEFAULT_DEPLOYMENT_PARALLELISM)
+    int deploymentParallelism;
+
+    /**
+     * Skip resources whose yaml files are unchanged since their last successful deployment to the same target.
+     * Only local deployment records are compared, resources changed or deleted on the target are not detected.
+     */
+    @Parameter(property = "skipUnchangedResources", defaultValue = "false")
+    boolean skipUnchangedResources;
+
     public Log logger  = getLog();
 
     @Override
@@ -64,9 +77,11 @@ public class DeployMojo extends AbstractMojo {
         Utils.executeCommand(logger, String.format("az group create --name %s --location %s", resourceGroup, location));
         // Perform deployment
         logger.info("Performing deployment");
-        Utils.executeCommand(logger, String.format("az mesh deployment create --resource-group %s " +
+        final MeshDeployer deployer = new MeshDeployer(logger, resourceGroup, Utils.getDeploymentStateFile(project),
+            deploymentParallelism, skipUnchangedResources, files -> String.format("az mesh deployment create --resource-group %s " +
             "--input-yaml-files %s  --parameters \"{'location': {'value': '%s'}}\"", resourceGroup,
-            inputYamlFiles, location));
+            files, location));
+        deployer.deploy(MeshResource.load(logger, inputYamlFiles));
         TelemetryHelper.sendEvent(TelemetryEventType.DEPLOYMESH, String.format("Deployed application on mesh"), logger);
     }
 }
@@ -40,6 +40,19 @@ public class DeployToClusterMojo extends AbstractMojo {
     @Parameter(property = "pemFilePath", defaultValue = Constants.DEFAULT_PEM_FILE_PATH)
     String pemFilePath;
 
+    /**
+     * Max number of resources deployed concurrently
+     */
+    @Parameter(property = "deploymentParallelism", defaultValue = Constants.DEFAULT_DEPLOYMENT_PARALLELISM)
+    int deploymentParallelism;
+
+    /**
+     * Skip resources whose yaml files are unchanged since their last successful deployment to the same target.
+     * Only local deployment records are compared, resources changed or deleted on the target are not detected.
+     */
+    @Parameter(property = "skipUnchangedResources", defaultValue = "false")
+    boolean skipUnchangedResources;
+
     public Log logger  = getLog();
 
     @Override
@@ -55,14 +68,20 @@ public class DeployToClusterMojo extends AbstractMojo {
         Utils.checkSfctlInstallation(logger);
         if (pemFilePath.equalsIgnoreCase(Constants.DEFAULT_PEM_FILE_PATH)){
             Utils.connectToUnSecureCluster(logger, clusterEndpoint);
-            Utils.executeCommand(logger, "sfctl mesh deployment create --input-yaml-files " + inputYamlFiles);
+            deployToCluster();
             TelemetryHelper.sendEvent(TelemetryEventType.DEPLOYLOCAL, String.format("Deployed " +
                 "application locally"), logger);
         } else {
             Utils.connectToSecureCluster(logger, clusterEndpoint, pemFilePath);
-            Utils.executeCommand(logger, "sfctl mesh deployment create --input-yaml-files " + inputYamlFiles);
+            deployToCluster();
             TelemetryHelper.sendEvent(TelemetryEventType.DEPLOYSFRP, String.format("Deployed " +
                 "application to SFRP"), logger);
         }
     }
+
+    void deployToCluster() throws MojoFailureException {
+        final MeshDeployer deployer = new MeshDeployer(logger, clusterEndpoint, Utils.getDeploymentStateFile(project),
+            deploymentParallelism, skipUnchangedResources, files -> "sfctl mesh deployment create --input-yaml-files " + files);
+        deployer.deploy(MeshResource.load(logger, inputYamlFiles));
+    }
 }
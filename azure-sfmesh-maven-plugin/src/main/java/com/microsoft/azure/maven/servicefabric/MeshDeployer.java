@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Deploys mesh resources one by one instead of all in a single command. A resource is submitted as soon as all
+ * resources it depends on are deployed, so independent resources are deployed concurrently. Hashes of deployed files
+ * are recorded per target, if {@code skipUnchanged} is enabled, resources whose files are unchanged since their last
+ * successful deployment to the same target are skipped. The records are local only, so resources changed or deleted
+ * on the target since then are not redeployed in that case.
+ */
+public class MeshDeployer {
+
+    private final Log logger;
+    private final String target;
+    private final Path stateFile;
+    private final int parallelism;
+    private final boolean skipUnchanged;
+    private final Function<String, String> commandBuilder;
+
+    /**
+     * @param target         where resources are deployed to, e.g. cluster endpoint or resource group
+     * @param stateFile      file to record hashes of deployed resources in
+     * @param skipUnchanged  whether to skip resources unchanged since last deployment to the same target
+     * @param commandBuilder builds the deployment command from comma separated yaml files
+     */
+    public MeshDeployer(Log logger, String target, Path stateFile, int parallelism, boolean skipUnchanged,
+        Function<String, String> commandBuilder) {
+        this.logger = logger;
+        this.target = target;
+        this.stateFile = stateFile;
+        this.parallelism = Math.max(1, parallelism);
+        this.skipUnchanged = skipUnchanged;
+        this.commandBuilder = commandBuilder;
+    }
+
+    public void deploy(List<MeshResource> resources) throws MojoFailureException {
+        final Properties state = loadState();
+        final Map<MeshResource, CompletableFuture<Void>> deployments = new HashMap<>();
+        final Map<MeshResource, Throwable> failures = new ConcurrentHashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (final MeshResource resource : resources) {
+                schedule(resource, deployments, new HashSet<>(), state, failures, executor);
+            }
+            CompletableFuture.allOf(deployments.values().toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null).join();
+        } finally {
+            executor.shutdownNow();
+            saveState(state);
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach((resource, e) -> logger.error(String.format("Failed to deploy %s: %s", resource,
+                e.getMessage())));
+            throw new MojoFailureException(String.format("Error while deploying %s",
+                failures.keySet().stream().map(MeshResource::getKey).sorted().collect(Collectors.joining(", "))));
+        }
+    }
+
+    private CompletableFuture<Void> schedule(MeshResource resource, Map<MeshResource, CompletableFuture<Void>> deployments,
+        Set<MeshResource> visiting, Properties state, Map<MeshResource, Throwable> failures,
+        ExecutorService executor) throws MojoFailureException {
+        final CompletableFuture<Void> scheduled = deployments.get(resource);
+        if (scheduled != null) {
+            return scheduled;
+        }
+        if (!visiting.add(resource)) {
+            throw new MojoFailureException(String.format("Circular dependency found among %s", visiting));
+        }
+        final CompletableFuture<?>[] dependencies = new CompletableFuture[resource.getDependencies().size()];
+        int i = 0;
+        for (final MeshResource dependency : resource.getDependencies()) {
+            dependencies[i++] = schedule(dependency, deployments, visiting, state, failures, executor);
+        }
+        visiting.remove(resource);
+        final CompletableFuture<Void> deployment = CompletableFuture.allOf(dependencies)
+            .thenRunAsync(() -> deploy(resource, state), executor)
+            .whenComplete((r, e) -> {
+                if (e != null && e.getCause() instanceof DependencyFailedException) {
+                    logger.warn(String.format("Skip deploying %s, its dependencies failed to deploy", resource));
+                } else if (e != null) {
+                    failures.put(resource, e.getCause() == null ? e : e.getCause());
+                }
+            });
+        deployments.put(resource, deployment.handle((r, e) -> {
+            if (e != null) {
+                throw new CompletionException(new DependencyFailedException());
+            }
+            return r;
+        }));
+        return deployments.get(resource);
+    }
+
+    private void deploy(MeshResource resource, Properties state) {
+        final String key = target + "|" + resource.getKey();
+        final String hash = hash(resource);
+        if (skipUnchanged && hash.equals(state.getProperty(key))) {
+            logger.info(String.format("Skip deploying %s, it's unchanged since last deployment", resource));
+            return;
+        }
+        logger.info(String.format("Deploying %s", resource));
+        final String files = resource.getFiles().stream().map(Path::toString).collect(Collectors.joining(","));
+        try {
+            execute(commandBuilder.apply(files));
+        } catch (MojoFailureException e) {
+            throw new CompletionException(e);
+        }
+        synchronized (state) {
+            state.setProperty(key, hash);
+        }
+    }
+
+    void execute(String command) throws MojoFailureException {
+        Utils.executeCommand(logger, command);
+    }
+
+    private String hash(MeshResource resource) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final Path file : resource.getFiles()) {
+                digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (final byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Properties loadState() {
+        final Properties state = new Properties();
+        if (Files.isRegularFile(stateFile)) {
+            try (InputStream input = Files.newInputStream(stateFile)) {
+                state.load(input);
+            } catch (IOException e) {
+                logger.debug(e);
+            }
+        }
+        return state;
+    }
+
+    private void saveState(Properties state) {
+        try {
+            Files.createDirectories(stateFile.getParent());
+            try (OutputStream output = Files.newOutputStream(stateFile)) {
+                synchronized (state) {
+                    state.store(output, "Hashes of deployed service fabric mesh resources");
+                }
+            }
+        } catch (IOException e) {
+            logger.warn(String.format("Failed to save deployment state to %s", stateFile));
+            logger.debug(e);
+        }
+    }
+
+    private static class DependencyFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+}
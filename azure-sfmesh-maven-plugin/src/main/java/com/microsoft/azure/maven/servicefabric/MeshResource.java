@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A mesh resource (network, volume, secret, secret value, application or gateway) together with all the yaml files
+ * defining it, e.g. an application is defined by its app yaml and all its service yamls.
+ */
+public class MeshResource {
+
+    enum Kind {
+        network, volume, secret, secretValue, application, gateway, unknown;
+
+        /**
+         * kinds of resources a resource of this kind may reference.
+         */
+        List<Kind> getDependencyKinds() {
+            switch (this) {
+                case secretValue:
+                    return Collections.singletonList(secret);
+                case application:
+                    return Arrays.asList(network, volume, secret, secretValue);
+                case gateway:
+                    return Arrays.asList(network, application);
+                default:
+                    return Collections.emptyList();
+            }
+        }
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final List<Path> files = new ArrayList<>();
+    private final Set<String> values = new HashSet<>();
+    private final Set<MeshResource> dependencies = new LinkedHashSet<>();
+
+    MeshResource(Kind kind, String name) {
+        this.kind = kind;
+        this.name = name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKey() {
+        return kind + "/" + name;
+    }
+
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    public Set<MeshResource> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public String toString() {
+        return getKey();
+    }
+
+    /**
+     * Loads resources from comma separated yaml files or directories, and resolves the dependencies between them
+     * from the names they reference. Resources referenced but not defined in the files are assumed to exist.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<MeshResource> load(Log logger, String inputYamlFiles) throws MojoFailureException {
+        final Map<String, MeshResource> resources = new LinkedHashMap<>();
+        for (final Path file : listYamlFiles(logger, inputYamlFiles)) {
+            final String content;
+            try {
+                content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                logger.error(e);
+                throw new MojoFailureException(String.format("Error while reading %s", file));
+            }
+            final Map<String, Object> yaml = Utils.stringToYaml(logger, content);
+            final Map.Entry<String, Object> definition = yaml == null || yaml.size() != 1 ? null :
+                yaml.entrySet().iterator().next();
+            final Kind kind = definition == null ? Kind.unknown : Arrays.stream(Kind.values())
+                .filter(k -> k.name().equals(definition.getKey())).findFirst().orElse(Kind.unknown);
+            final Object name = kind == Kind.unknown || !(definition.getValue() instanceof Map) ? null :
+                ((Map<String, Object>) definition.getValue()).get("name");
+            final MeshResource resource = name == null ?
+                resources.computeIfAbsent(Kind.unknown + "/" + file, k -> new MeshResource(Kind.unknown, file.toString())) :
+                resources.computeIfAbsent(kind + "/" + name, k -> new MeshResource(kind, name.toString()));
+            resource.files.add(file);
+            collectValues(definition == null ? null : definition.getValue(), resource.values);
+        }
+        for (final MeshResource resource : resources.values()) {
+            resource.values.remove(resource.name);
+            for (final MeshResource candidate : resources.values()) {
+                if (resource.kind.getDependencyKinds().contains(candidate.kind) && candidate.isReferencedBy(resource)) {
+                    resource.dependencies.add(candidate);
+                }
+            }
+            logger.debug(String.format("Resource %s is defined in %s and depends on %s", resource,
+                resource.files, resource.dependencies));
+        }
+        return new ArrayList<>(resources.values());
+    }
+
+    private boolean isReferencedBy(MeshResource resource) {
+        if (resource.kind == Kind.secretValue) {
+            return resource.name.startsWith(this.name + "/");
+        }
+        return resource.values.contains(this.name);
+    }
+
+    private static void collectValues(Object node, Set<String> values) {
+        if (node instanceof Map) {
+            ((Map<?, ?>) node).values().forEach(v -> collectValues(v, values));
+        } else if (node instanceof Collection) {
+            ((Collection<?>) node).forEach(v -> collectValues(v, values));
+        } else if (node != null) {
+            values.add(node.toString());
+        }
+    }
+
+    private static List<Path> listYamlFiles(Log logger, String inputYamlFiles) throws MojoFailureException {
+        final Set<Path> files = new LinkedHashSet<>();
+        for (final String input : inputYamlFiles.split(",")) {
+            final Path path = Paths.get(input.trim());
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    files.addAll(walk.filter(Files::isRegularFile)
+                        .filter(f -> f.toString().endsWith(".yaml") || f.toString().endsWith(".yml"))
+                        .sorted().collect(Collectors.toList()));
+                } catch (IOException e) {
+                    logger.error(e);
+                    throw new MojoFailureException(String.format("Error while listing yaml files in %s", path));
+                }
+            } else if (Files.isRegularFile(path)) {
+                files.add(path);
+            } else {
+                throw new MojoFailureException(String.format("Resource file %s does not exist", path));
+            }
+        }
+        return new ArrayList<>(files);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs a command and drains its stdout and stderr concurrently into the maven log as lines arrive,
+ * so that commands writing more than the OS pipe buffer never block. Stdout is logged at debug level
+ * since it's returned to the caller, stderr is logged as warnings.
+ */
+public class ProcessRunner {
+
+    private static final long KILL_TIMEOUT_SECONDS = 10;
+
+    private final Log logger;
+    private final long timeout;
+    private final TimeUnit unit;
+
+    public ProcessRunner(Log logger, long timeout, TimeUnit unit) {
+        this.logger = logger;
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    /**
+     * @return stdout of the command
+     * @throws MojoFailureException if the command can't be started, times out or exits with non-zero code and errors.
+     */
+    public String run(String command) throws MojoFailureException {
+        logger.info(String.format("Executing command %s", command));
+        final Process p;
+        try {
+            p = new ProcessBuilder(tokenize(Utils.isWindows() ? "cmd.exe /C" + command : command)).start();
+        } catch (IOException e) {
+            logger.error(e);
+            throw new MojoFailureException(String.format("Error while " +
+                "running the %s command", command));
+        }
+        try {
+            p.getOutputStream().close();
+        } catch (IOException e) {
+            logger.debug(e);
+        }
+        final StringBuilder stdout = new StringBuilder();
+        final AtomicBoolean hasStderr = new AtomicBoolean(false);
+        final Thread stdoutDrainer = drain(p.getInputStream(), line -> {
+            stdout.append(line).append(System.lineSeparator());
+            logger.debug(line);
+        });
+        final Thread stderrDrainer = drain(p.getErrorStream(), line -> {
+            hasStderr.set(true);
+            logger.warn(line);
+        });
+        try {
+            if (!p.waitFor(timeout, unit)) {
+                // drainers are daemon threads and are not joined, they end once the pipes are closed.
+                p.destroyForcibly().waitFor(KILL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                throw new MojoFailureException(String.format("Timed out after %d %s while " +
+                    "running command %s", timeout, unit.name().toLowerCase(), command));
+            }
+            stdoutDrainer.join();
+            stderrDrainer.join();
+        } catch (InterruptedException e) {
+            p.destroyForcibly();
+            Thread.currentThread().interrupt();
+            logger.error(e);
+            throw new MojoFailureException(String.format("Interrupted while " +
+                "running command %s", command));
+        }
+        final int exitCode = p.exitValue();
+        if (exitCode != 0 && hasStderr.get()) {
+            logger.error(String.format("Process exited with exit code %d", exitCode));
+            throw new MojoFailureException(String.format("Error while " +
+                "running the %s command", command));
+        }
+        return stdout.toString();
+    }
+
+    private Thread drain(InputStream stream, Consumer<String> consumer) {
+        final Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    consumer.accept(line);
+                }
+            } catch (IOException e) {
+                logger.debug(e);
+            }
+        }, "sfmesh-process-drainer");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * splits command the same way as {@link Runtime#exec(String)}.
+     */
+    private static List<String> tokenize(String command) {
+        final List<String> tokens = new ArrayList<>();
+        final StringTokenizer tokenizer = new StringTokenizer(command);
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+}
@@ -10,7 +10,6 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
-import org.codehaus.plexus.util.IOUtil;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
@@ -20,11 +19,17 @@ import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class Utils {
 
+    private static final Set<String> CHECKED_INSTALLATIONS = ConcurrentHashMap.newKeySet();
+
     enum ResourceType {
         application, volume, network;
     }
@@ -64,60 +69,52 @@ public class Utils {
             "appresources").toString();
     }
 
+    /**
+     * file recording hashes of deployed resources, so that unchanged resources are skipped in next deployment.
+     */
+    public static Path getDeploymentStateFile(MavenProject project){
+        return Paths.get(project.getBuild().getDirectory(), "sfmesh", "deployment.properties");
+    }
+
     public static String getPath(String directoryPath, String fileOrDirName){
         return Paths.get(directoryPath, fileOrDirName).toString();
     }
 
     public static String executeCommand(Log logger, String command) throws MojoFailureException{
-        try {
-            logger.info(String.format("Executing command %s", command));
-            final Process p;
-            if (Utils.isWindows()){
-                p = Runtime.getRuntime().exec("cmd.exe /C" + command);
-            } else {
-                p = Runtime.getRuntime().exec(command);
-            }
-            p.waitFor();
-            final int exitCode = p.exitValue();
-            final String stderr = IOUtil.toString(p.getErrorStream(), "UTF-8");
-            final String stdout = IOUtil.toString(p.getInputStream(), "UTF-8");
-            logger.debug(String.format("STDOUT: %s", stdout));
-            if (stderr != null && stderr.length() > 0){
-                if (exitCode != 0){
-                    logger.error(String.format("Process exited with exit code %d", exitCode));
-                    logger.error(String.format("If STDERR: %s", stderr));
-                    throw new MojoFailureException(String.format("Error while " +
-                        "running the %s command", command));
-                } else {
-                    logger.info(String.format("Else STDERR: %s", stderr));
-                }
-            }
-            return stdout;
-        } catch (IOException e){
-            logger.error(e);
-            throw new MojoFailureException(String.format("Error while " +
-                "running the %s command", command));
-        } catch (InterruptedException e) {
-            logger.error(e);
-            throw new MojoFailureException(String.format("Interrupted while " +
-                "running command %s", command));
-        }
+        return executeCommand(logger, command, Constants.DEFAULT_COMMAND_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public static String executeCommand(Log logger, String command, long timeout,
+        TimeUnit unit) throws MojoFailureException{
+        return new ProcessRunner(logger, timeout, unit).run(command);
     }
 
     public static void checkSfctlInstallation(Log logger) throws MojoFailureException{
         if (Utils.isWindows()){
-            Utils.executeCommand(logger, "sfctl --help  > NUL 2>&1");
+            Utils.checkInstallation(logger, "sfctl --help  > NUL 2>&1");
         } else {
-            Utils.executeCommand(logger, "sfctl --help >> /dev/null 2>&1");
+            Utils.checkInstallation(logger, "sfctl --help >> /dev/null 2>&1");
         }
     }
 
     public static void checkAzInstallation(Log logger) throws MojoFailureException{
         if (Utils.isWindows()){
-            Utils.executeCommand(logger, "az mesh --help > NUL 2>&1");
+            Utils.checkInstallation(logger, "az mesh --help > NUL 2>&1");
         } else {
-            Utils.executeCommand(logger, "az mesh --help >> /dev/null 2>&1");
+            Utils.checkInstallation(logger, "az mesh --help >> /dev/null 2>&1");
+        }
+    }
+
+    /**
+     * runs the probe command only once per session, it's skipped once it succeeds.
+     */
+    private static void checkInstallation(Log logger, String command) throws MojoFailureException{
+        if (CHECKED_INSTALLATIONS.contains(command)){
+            logger.debug(String.format("Skip command %s, it has succeeded in this session", command));
+            return;
         }
+        Utils.executeCommand(logger, command, Constants.DEFAULT_PROBE_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        CHECKED_INSTALLATIONS.add(command);
     }
 
     public static void connectToUnSecureCluster(Log logger,
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MeshDeployerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File appResources;
+    private Path stateFile;
+
+    @Before
+    public void setUp() throws IOException {
+        this.appResources = folder.newFolder("appResources");
+        this.stateFile = folder.getRoot().toPath().resolve("state").resolve("deployment.properties");
+        write("network_net.yaml", "network:\n  name: net\n");
+        write("secret_sec.yaml", "secret:\n  name: sec\n");
+        write("app_app.yaml", "application:\n  name: app\n  properties:\n    services:\n" +
+            "      - name: web\n        networkRefs:\n          - name: net\n");
+        write("gateway_gw.yaml", "gateway:\n  name: gw\n  properties:\n    destinationNetwork: net\n" +
+            "    http:\n      - destination:\n          applicationName: app\n");
+    }
+
+    @Test
+    public void deployDependenciesFirst() throws MojoFailureException {
+        final FakeDeployer deployer = new FakeDeployer(false);
+        deployer.deploy(load());
+        final List<String> deployed = deployer.deployed;
+        assertEquals(Arrays.asList("app_app.yaml", "gateway_gw.yaml", "network_net.yaml", "secret_sec.yaml"),
+            deployed.stream().sorted().collect(Collectors.toList()));
+        assertTrue(deployed.indexOf("network_net.yaml") < deployed.indexOf("app_app.yaml"));
+        assertTrue(deployed.indexOf("app_app.yaml") < deployed.indexOf("gateway_gw.yaml"));
+    }
+
+    @Test
+    public void skipDependentsOfFailedResource() {
+        final FakeDeployer deployer = new FakeDeployer(false);
+        deployer.failing.add("network_net.yaml");
+        try {
+            deployer.deploy(load());
+            fail("deployment should fail");
+        } catch (final MojoFailureException e) {
+            assertEquals("Error while deploying network/net", e.getMessage());
+        }
+        assertEquals(Arrays.asList("network_net.yaml", "secret_sec.yaml"),
+            deployer.deployed.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void redeployUnchangedResourcesByDefault() throws MojoFailureException {
+        new FakeDeployer(false).deploy(load());
+        final FakeDeployer deployer = new FakeDeployer(false);
+        deployer.deploy(load());
+        assertEquals(4, deployer.deployed.size());
+    }
+
+    @Test
+    public void skipUnchangedResourcesIfEnabled() throws MojoFailureException, IOException {
+        new FakeDeployer(false).deploy(load());
+        write("app_app.yaml", "application:\n  name: app\n  properties:\n    description: changed\n" +
+            "    services:\n      - name: web\n        networkRefs:\n          - name: net\n");
+        final FakeDeployer deployer = new FakeDeployer(true);
+        deployer.deploy(load());
+        assertEquals(Collections.singletonList("app_app.yaml"), deployer.deployed);
+    }
+
+    @Test
+    public void redeployFailedResourcesEvenIfUnchanged() throws MojoFailureException {
+        final FakeDeployer failed = new FakeDeployer(true);
+        failed.failing.add("app_app.yaml");
+        try {
+            failed.deploy(load());
+            fail("deployment should fail");
+        } catch (final MojoFailureException ignored) {
+        }
+        final FakeDeployer deployer = new FakeDeployer(true);
+        deployer.deploy(load());
+        assertEquals(Arrays.asList("app_app.yaml", "gateway_gw.yaml"), deployer.deployed);
+    }
+
+    private List<MeshResource> load() throws MojoFailureException {
+        return MeshResource.load(new SystemStreamLog(), appResources.toString());
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(new File(appResources, name).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * records the files deployed instead of running the deployment command, the command is the deployed files.
+     */
+    private class FakeDeployer extends MeshDeployer {
+        private final List<String> deployed = new CopyOnWriteArrayList<>();
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+        FakeDeployer(boolean skipUnchanged) {
+            super(new SystemStreamLog(), "cluster", stateFile, 4, skipUnchanged, files -> files);
+        }
+
+        @Override
+        void execute(String command) throws MojoFailureException {
+            for (final String file : command.split(",")) {
+                final String name = Paths.get(file).getFileName().toString();
+                deployed.add(name);
+                if (failing.contains(name)) {
+                    throw new MojoFailureException("failed to deploy " + name);
+                }
+            }
+        }
+    }
+}
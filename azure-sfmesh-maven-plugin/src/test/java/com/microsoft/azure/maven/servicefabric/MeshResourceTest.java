@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MeshResourceTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File appResources;
+
+    @Before
+    public void setUp() throws IOException {
+        this.appResources = folder.newFolder("appResources");
+        write("network_net.yaml", "network:\n  name: net\n");
+        write("volume_vol.yaml", "volume:\n  name: vol\n");
+        write("secret_sec.yaml", "secret:\n  name: sec\n");
+        write("secretValue_sec_v1.yaml", "secretValue:\n  name: sec/v1\n  properties:\n    value: plain\n");
+        write("app_app.yaml", "application:\n  name: app\n  properties:\n    description: app on net\n");
+        write("service_web.yaml", "application:\n  name: app\n  properties:\n    services:\n" +
+            "      - name: web\n        networkRefs:\n          - name: net\n" +
+            "        volumeRefs:\n          - name: vol\n        secretRef: sec/v1\n");
+        write("gateway_gw.yaml", "gateway:\n  name: gw\n  properties:\n    sourceNetwork: Open\n" +
+            "    destinationNetwork: net\n    http:\n      - hosts:\n          - routes:\n" +
+            "              - destination:\n                  applicationName: app\n");
+    }
+
+    @Test
+    public void mergeFilesOfSameResource() throws MojoFailureException {
+        final Map<String, MeshResource> resources = load(appResources.toString());
+        assertEquals(Arrays.asList("application/app", "gateway/gw", "network/net", "secret/sec", "secretValue/sec/v1",
+            "volume/vol"), resources.keySet().stream().sorted().collect(Collectors.toList()));
+        assertEquals(Arrays.asList("app_app.yaml", "service_web.yaml"), resources.get("application/app").getFiles()
+            .stream().map(f -> f.getFileName().toString()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void resolveDependenciesByReferencedNames() throws MojoFailureException {
+        final Map<String, MeshResource> resources = load(appResources.toString());
+        assertEquals(Arrays.asList("network/net", "secretValue/sec/v1", "volume/vol"),
+            dependencies(resources.get("application/app")));
+        assertEquals(Arrays.asList("application/app", "network/net"), dependencies(resources.get("gateway/gw")));
+        assertEquals(Collections.singletonList("secret/sec"), dependencies(resources.get("secretValue/sec/v1")));
+        assertTrue(resources.get("network/net").getDependencies().isEmpty());
+        assertTrue(resources.get("secret/sec").getDependencies().isEmpty());
+    }
+
+    @Test
+    public void assumeResourcesNotDefinedExist() throws MojoFailureException {
+        final String files = new File(appResources, "app_app.yaml") + "," + new File(appResources, "service_web.yaml");
+        final Map<String, MeshResource> resources = load(files);
+        assertEquals(Collections.singleton("application/app"), resources.keySet());
+        assertTrue(resources.get("application/app").getDependencies().isEmpty());
+    }
+
+    @Test
+    public void loadUnknownFileAsIndependentResource() throws IOException, MojoFailureException {
+        final File unknown = write("unknown.yaml", "foo:\n  name: net\n");
+        final List<MeshResource> resources = MeshResource.load(new SystemStreamLog(), unknown.toString());
+        assertEquals(1, resources.size());
+        assertEquals(MeshResource.Kind.unknown, resources.get(0).getKind());
+        assertTrue(resources.get(0).getDependencies().isEmpty());
+    }
+
+    @Test(expected = MojoFailureException.class)
+    public void failOnMissingFile() throws MojoFailureException {
+        MeshResource.load(new SystemStreamLog(), new File(appResources, "missing.yaml").toString());
+    }
+
+    private Map<String, MeshResource> load(String inputYamlFiles) throws MojoFailureException {
+        return MeshResource.load(new SystemStreamLog(), inputYamlFiles).stream()
+            .collect(Collectors.toMap(MeshResource::getKey, Function.identity()));
+    }
+
+    private static List<String> dependencies(MeshResource resource) {
+        return resource.getDependencies().stream().map(MeshResource::getKey).sorted().collect(Collectors.toList());
+    }
+
+    private File write(String name, String content) throws IOException {
+        final File file = new File(appResources, name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+public class ProcessRunnerTest {
+    // far more than the pipe buffer (64KB on linux) on both stdout and stderr.
+    private static final int LINES = 20000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final RecordingLog logger = new RecordingLog();
+
+    @Before
+    public void setUp() {
+        assumeFalse("scripts are written for sh", Utils.isWindows());
+    }
+
+    @Test
+    public void drainOutputLargerThanPipeBuffer() throws IOException, MojoFailureException {
+        final File script = script("loud.sh", "i=0\nwhile [ $i -lt " + LINES + " ]; do\n" +
+            "  echo \"stdout line $i\"\n  echo \"stderr line $i\" >&2\n  i=$((i+1))\ndone\n");
+        final String stdout = new ProcessRunner(logger, 1, TimeUnit.MINUTES).run("sh " + script);
+        assertEquals(LINES, stdout.split(System.lineSeparator()).length);
+        assertEquals(LINES, logger.debugs.size());
+        assertEquals(LINES, logger.warnings.size());
+        assertEquals("stdout line " + (LINES - 1), logger.debugs.get(LINES - 1));
+        assertEquals("stderr line " + (LINES - 1), logger.warnings.get(LINES - 1));
+        assertTrue(logger.infos.stream().noneMatch(line -> line.startsWith("stdout line")));
+    }
+
+    @Test
+    public void killProcessOnTimeout() throws IOException {
+        final File marker = new File(folder.getRoot(), "marker");
+        final File script = script("slow.sh", "sleep 2\ntouch " + marker + "\n");
+        final long start = System.currentTimeMillis();
+        try {
+            new ProcessRunner(logger, 200, TimeUnit.MILLISECONDS).run("sh " + script);
+            fail("command should time out");
+        } catch (final MojoFailureException e) {
+            assertTrue(e.getMessage().startsWith("Timed out after 200 milliseconds"));
+        }
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        try {
+            Thread.sleep(3000);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertFalse("killed command should not go on", marker.exists());
+    }
+
+    @Test
+    public void failOnNonZeroExitCodeWithStderr() throws IOException {
+        final File script = script("failing.sh", "echo \"something went wrong\" >&2\nexit 3\n");
+        try {
+            new ProcessRunner(logger, 1, TimeUnit.MINUTES).run("sh " + script);
+            fail("command should fail");
+        } catch (final MojoFailureException e) {
+            assertEquals(String.format("Error while running the sh %s command", script), e.getMessage());
+        }
+        assertEquals("something went wrong", logger.warnings.get(0));
+    }
+
+    private File script(String name, String content) throws IOException {
+        final File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * records output lines by level instead of printing them.
+     */
+    private static class RecordingLog extends SystemStreamLog {
+        private final List<String> debugs = new CopyOnWriteArrayList<>();
+        private final List<String> infos = new CopyOnWriteArrayList<>();
+        private final List<String> warnings = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void debug(CharSequence content) {
+            debugs.add(content.toString());
+        }
+
+        @Override
+        public void info(CharSequence content) {
+            infos.add(content.toString());
+        }
+
+        @Override
+        public void warn(CharSequence content) {
+            warnings.add(content.toString());
+        }
+    }
+}
@@ -25,8 +25,6 @@ import com.microsoft.azure.toolkit.lib.appservice.model.Runtime;
 import com.microsoft.azure.toolkit.lib.appservice.model.TunnelStatus;
 import com.microsoft.azure.toolkit.lib.appservice.plan.AppServicePlan;
 import com.microsoft.azure.toolkit.lib.appservice.plan.AppServicePlanModule;
-import com.microsoft.azure.toolkit.lib.appservice.utils.AppServiceUtils;
-import com.microsoft.azure.toolkit.lib.appservice.utils.Utils;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
@@ -48,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @SuppressWarnings("unused")
 @Slf4j
@@ -57,6 +56,7 @@ public abstract class AppServiceAppBase<
     F extends WebAppBase>
     extends AbstractAzResource<T, P, WebSiteBase> implements Startable, Deletable, StreamingLogSupport {
     protected AppServiceKuduClient kuduManager;
+    protected AtomicReference<AppServiceAppSnapshot> snapshotRef = new AtomicReference<>();
 
     protected AppServiceAppBase(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull AbstractAzResourceModule<T, P, WebSiteBase> module) {
         super(name, resourceGroupName, module);
@@ -72,6 +72,7 @@ public abstract class AppServiceAppBase<
     protected AppServiceAppBase(@Nonnull T origin) {
         super(origin);
         this.kuduManager = origin.kuduManager;
+        this.snapshotRef = origin.snapshotRef;
     }
 
     @Nullable
@@ -91,6 +92,25 @@ public abstract class AppServiceAppBase<
         return (F) remote;
     }
 
+    /**
+     * @return snapshot of the site config, app settings and publishing profile of current remote, null if the app doesn't exist.
+     */
+    @Nullable
+    public AppServiceAppSnapshot getSnapshot() {
+        final F remote = this.getFullRemote();
+        if (Objects.isNull(remote)) {
+            return null;
+        }
+        return this.snapshotRef.updateAndGet(s -> Objects.nonNull(s) && s.getRemote() == remote ? s : new AppServiceAppSnapshot(remote));
+    }
+
+    @Override
+    protected void updateAdditionalProperties(@Nullable WebSiteBase newRemote, @Nullable WebSiteBase oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        // remote may be updated in place (e.g. `update().apply()`), so always drop the snapshot.
+        this.snapshotRef.set(null);
+    }
+
     // MODIFY
     @AzureOperation(name = "azure/resource.start_resource.resource", params = {"this.getName()"})
     public void start() {
@@ -123,17 +143,17 @@ public abstract class AppServiceAppBase<
 
     @Nullable
     public String getLinuxFxVersion() {
-        return Optional.ofNullable(this.getFullRemote()).map(WebAppBase::linuxFxVersion).orElse(null);
+        return Optional.ofNullable(this.getSnapshot()).map(AppServiceAppSnapshot::getLinuxFxVersion).orElse(null);
     }
 
     @Nullable
     public PublishingProfile getPublishingProfile() {
-        return Optional.ofNullable(this.getFullRemote()).map(WebAppBase::getPublishingProfile).map(AppServiceUtils::fromPublishingProfile).orElse(null);
+        return Optional.ofNullable(this.getSnapshot()).map(AppServiceAppSnapshot::getPublishingProfile).orElse(null);
     }
 
     @Nullable
     public DiagnosticConfig getDiagnosticConfig() {
-        return Optional.ofNullable(this.getFullRemote()).map(WebAppBase::diagnosticLogsConfig).map(AppServiceUtils::fromWebAppDiagnosticLogs).orElse(null);
+        return Optional.ofNullable(this.getSnapshot()).map(AppServiceAppSnapshot::getDiagnosticConfig).orElse(null);
     }
 
     @Override
@@ -205,12 +225,12 @@ public abstract class AppServiceAppBase<
 
     @Nullable
     public Map<String, String> getAppSettings() {
-        return Optional.ofNullable(this.getFullRemote()).map(WebAppBase::getAppSettings).map(Utils::normalizeAppSettings).orElse(null);
+        return Optional.ofNullable(this.getSnapshot()).map(AppServiceAppSnapshot::getAppSettings).orElse(null);
     }
 
     @Nullable
     public Runtime getRuntime() {
-        return Optional.ofNullable(this.getFullRemote()).map(AppServiceUtils::getRuntimeFromAppService).orElse(null);
+        return Optional.ofNullable(this.getSnapshot()).map(AppServiceAppSnapshot::getRuntime).orElse(null);
     }
 
     @Nonnull
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.appservice;
+
+import com.azure.resourcemanager.appservice.models.WebAppBase;
+import com.microsoft.azure.toolkit.lib.appservice.model.DiagnosticConfig;
+import com.microsoft.azure.toolkit.lib.appservice.model.PublishingProfile;
+import com.microsoft.azure.toolkit.lib.appservice.model.Runtime;
+import com.microsoft.azure.toolkit.lib.appservice.utils.AppServiceUtils;
+import com.microsoft.azure.toolkit.lib.appservice.utils.Utils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * versioned snapshot of the site config, app settings and publishing profile of an app service app.
+ * every property is loaded from Azure at most once per snapshot, the snapshot is dropped by its app
+ * whenever the remote of the app is refreshed or modified.
+ */
+@Slf4j
+public class AppServiceAppSnapshot {
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    @Getter
+    private final long version = VERSIONS.incrementAndGet();
+    @Nonnull
+    @Getter
+    private final WebAppBase remote;
+    private final Property<String> linuxFxVersion;
+    private final Property<Runtime> runtime;
+    private final Property<DiagnosticConfig> diagnosticConfig;
+    private final Property<Map<String, String>> appSettings;
+    private final Property<Map<String, String>> siteAppSettings;
+    private final Property<PublishingProfile> publishingProfile;
+
+    AppServiceAppSnapshot(@Nonnull WebAppBase remote) {
+        this.remote = remote;
+        this.linuxFxVersion = new Property<>("linuxFxVersion", remote::linuxFxVersion);
+        this.runtime = new Property<>("runtime", () -> AppServiceUtils.getRuntimeFromAppService(remote));
+        this.diagnosticConfig = new Property<>("diagnosticConfig", () -> Optional.ofNullable(remote.diagnosticLogsConfig()).map(AppServiceUtils::fromWebAppDiagnosticLogs).orElse(null));
+        this.appSettings = new Property<>("appSettings", () -> Optional.ofNullable(remote.getAppSettings()).map(Utils::normalizeAppSettings).orElse(null));
+        this.siteAppSettings = new Property<>("siteAppSettings", remote::getSiteAppSettings);
+        this.publishingProfile = new Property<>("publishingProfile", () -> Optional.ofNullable(remote.getPublishingProfile()).map(AppServiceUtils::fromPublishingProfile).orElse(null));
+    }
+
+    @Nullable
+    public String getLinuxFxVersion() {
+        return this.linuxFxVersion.get();
+    }
+
+    @Nullable
+    public Runtime getRuntime() {
+        return this.runtime.get();
+    }
+
+    @Nullable
+    public DiagnosticConfig getDiagnosticConfig() {
+        return this.diagnosticConfig.get();
+    }
+
+    /**
+     * @return a copy of the app settings, safe to be modified by the caller.
+     */
+    @Nullable
+    public Map<String, String> getAppSettings() {
+        return Optional.ofNullable(this.appSettings.get()).<Map<String, String>>map(HashMap::new).orElse(null);
+    }
+
+    /**
+     * @return a copy of the app settings with key vault references unresolved.
+     */
+    @Nullable
+    public Map<String, String> getSiteAppSettings() {
+        return Optional.ofNullable(this.siteAppSettings.get()).<Map<String, String>>map(HashMap::new).orElse(null);
+    }
+
+    @Nullable
+    public PublishingProfile getPublishingProfile() {
+        return this.publishingProfile.get();
+    }
+
+    /**
+     * load all properties that are not loaded yet in parallel, each of them costs separate ARM calls.
+     */
+    @Nonnull
+    public AppServiceAppSnapshot preload() {
+        Flux.fromIterable(this.properties())
+            .filter(p -> !p.isLoaded())
+            .flatMap(p -> Mono.fromRunnable(p::get).subscribeOn(Schedulers.boundedElastic()))
+            .blockLast();
+        return this;
+    }
+
+    /**
+     * @return load metrics of each property, keyed by property name.
+     */
+    @Nonnull
+    public Map<String, LoadMetrics> getMetrics() {
+        final Map<String, LoadMetrics> result = new LinkedHashMap<>();
+        this.properties().forEach(p -> result.put(p.name, p.getMetrics()));
+        return result;
+    }
+
+    @Nonnull
+    private List<Property<?>> properties() {
+        return Arrays.asList(this.linuxFxVersion, this.runtime, this.diagnosticConfig, this.appSettings, this.siteAppSettings, this.publishingProfile);
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LoadMetrics {
+        private final String property;
+        /**
+         * times the property is loaded from Azure, failed loads included.
+         */
+        private final int loads;
+        /**
+         * times the property is served from the snapshot without loading.
+         */
+        private final long hits;
+        private final Duration loadTime;
+    }
+
+    private class Property<V> {
+        private final String name;
+        private final Supplier<V> loader;
+        private volatile boolean loaded;
+        private V value;
+        private int loads;
+        private final AtomicLong hits = new AtomicLong();
+        private volatile long loadTimeNanos;
+
+        Property(@Nonnull String name, @Nonnull Supplier<V> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        boolean isLoaded() {
+            return this.loaded;
+        }
+
+        @Nullable
+        V get() {
+            if (!this.loaded) {
+                synchronized (this) {
+                    if (!this.loaded) {
+                        this.load();
+                        return this.value;
+                    }
+                }
+            }
+            this.hits.incrementAndGet();
+            return this.value;
+        }
+
+        private void load() {
+            final long start = System.nanoTime();
+            this.loads++;
+            try {
+                this.value = this.loader.get();
+                this.loaded = true;
+            } finally {
+                this.loadTimeNanos += System.nanoTime() - start;
+                log.debug("[{}]:snapshot(v{}).{} loaded in {}ms", remote.name(), version, this.name, Duration.ofNanos(this.loadTimeNanos).toMillis());
+            }
+        }
+
+        @Nonnull
+        synchronized LoadMetrics getMetrics() {
+            return new LoadMetrics(this.name, this.loads, this.hits.get(), Duration.ofNanos(this.loadTimeNanos));
+        }
+    }
+}
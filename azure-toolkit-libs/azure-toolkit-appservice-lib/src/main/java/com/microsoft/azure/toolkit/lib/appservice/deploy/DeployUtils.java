@@ -4,17 +4,20 @@
  */
 package com.microsoft.azure.toolkit.lib.appservice.deploy;
 
-import com.azure.resourcemanager.appservice.models.AppSetting;
 import com.azure.resourcemanager.appservice.models.FunctionApp;
 import com.azure.resourcemanager.appservice.models.FunctionDeploymentSlot;
 import com.azure.resourcemanager.appservice.models.WebAppBase;
 import com.microsoft.azure.storage.CloudStorageAccount;
+import com.microsoft.azure.toolkit.lib.appservice.AppServiceAppSnapshot;
+import com.microsoft.azure.toolkit.lib.appservice.utils.Utils;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.net.URISyntaxException;
 import java.security.InvalidKeyException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 class DeployUtils {
     private static final String INTERNAL_STORAGE_NOT_FOUND = "Application setting 'AzureWebJobsStorage' is not found, " +
@@ -31,11 +34,24 @@ class DeployUtils {
      */
     static CloudStorageAccount getCloudStorageAccount(final WebAppBase functionApp) {
         // Call functionApp.getSiteAppSettings() to get the app settings with key vault reference
-        final String connectionString = Optional.ofNullable(functionApp.getSiteAppSettings())
+        return getCloudStorageAccount(functionApp::getSiteAppSettings,
+            () -> Optional.ofNullable(functionApp.getAppSettings()).map(Utils::normalizeAppSettings).orElse(null));
+    }
+
+    /**
+     * Get storage account specified within AzureWebJobsStorage for function app/slot from the (cached) snapshot of its app settings
+     */
+    static CloudStorageAccount getCloudStorageAccount(final AppServiceAppSnapshot snapshot) {
+        return getCloudStorageAccount(snapshot::getSiteAppSettings, snapshot::getAppSettings);
+    }
+
+    private static CloudStorageAccount getCloudStorageAccount(final Supplier<Map<String, String>> siteAppSettings,
+                                                              final Supplier<Map<String, String>> appSettings) {
+        final String connectionString = Optional.ofNullable(siteAppSettings.get())
                 .map(map -> map.get(INTERNAL_STORAGE_KEY))
                 .filter(StringUtils::isNotEmpty)
-                .orElseGet(() -> Optional.ofNullable(functionApp.getAppSettings())
-                        .map(map -> map.get(INTERNAL_STORAGE_KEY)).map(AppSetting::value).orElse(null));
+                .orElseGet(() -> Optional.ofNullable(appSettings.get())
+                        .map(map -> map.get(INTERNAL_STORAGE_KEY)).orElse(null));
         if (StringUtils.isEmpty(connectionString)) {
             throw new AzureToolkitRuntimeException(INTERNAL_STORAGE_NOT_FOUND);
         }
@@ -5,12 +5,18 @@
 package com.microsoft.azure.toolkit.lib.appservice.deploy;
 
 import com.azure.resourcemanager.appservice.models.WebAppBase;
+import com.microsoft.azure.toolkit.lib.appservice.function.FunctionAppBase;
 
 import java.io.File;
+import java.util.Objects;
 
 public interface IFunctionDeployHandler {
     String DEPLOY_START = "Trying to deploy artifact to %s...";
     String DEPLOY_FINISH = "Successfully deployed the artifact to https://%s";
 
     void deploy(final File file, final WebAppBase webAppBase);
+
+    default void deploy(final File file, final FunctionAppBase<?, ?, ?> functionApp) {
+        deploy(file, Objects.requireNonNull(functionApp.getFullRemote()));
+    }
 }
@@ -8,6 +8,8 @@ import com.azure.resourcemanager.appservice.models.WebAppBase;
 import com.microsoft.azure.storage.CloudStorageAccount;
 import com.microsoft.azure.storage.blob.BlobContainerPublicAccessType;
 import com.microsoft.azure.storage.blob.CloudBlockBlob;
+import com.microsoft.azure.toolkit.lib.appservice.AppServiceAppSnapshot;
+import com.microsoft.azure.toolkit.lib.appservice.function.FunctionAppBase;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureExecutionException;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
@@ -18,6 +20,7 @@ import java.io.File;
 import java.text.SimpleDateFormat;
 import java.time.Period;
 import java.util.Date;
+import java.util.Objects;
 
 public class MSFunctionDeployHandler implements IFunctionDeployHandler {
     private static final String DEPLOYMENT_PACKAGE_CONTAINER = "java-functions-deployment-packages";
@@ -31,8 +34,16 @@ public class MSFunctionDeployHandler implements IFunctionDeployHandler {
 
     @Override
     public void deploy(final File file, final WebAppBase webAppBase) {
-        final CloudStorageAccount storageAccount = DeployUtils.getCloudStorageAccount(webAppBase);
+        deploy(file, webAppBase, DeployUtils.getCloudStorageAccount(webAppBase));
+    }
+
+    @Override
+    public void deploy(final File file, final FunctionAppBase<?, ?, ?> functionApp) {
+        final AppServiceAppSnapshot snapshot = Objects.requireNonNull(functionApp.getSnapshot());
+        deploy(file, snapshot.getRemote(), DeployUtils.getCloudStorageAccount(snapshot));
+    }
 
+    private void deploy(final File file, final WebAppBase webAppBase, final CloudStorageAccount storageAccount) {
         final String blobName = getBlobName(webAppBase);
 
         final String packageUri = uploadPackageToAzureStorage(file, storageAccount, blobName);
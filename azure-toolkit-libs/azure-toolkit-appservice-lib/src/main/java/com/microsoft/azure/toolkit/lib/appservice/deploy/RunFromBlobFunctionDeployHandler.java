@@ -12,6 +12,8 @@ import com.microsoft.azure.storage.blob.BlobContainerPublicAccessType;
 import com.microsoft.azure.storage.blob.CloudBlobClient;
 import com.microsoft.azure.storage.blob.CloudBlobContainer;
 import com.microsoft.azure.storage.blob.CloudBlockBlob;
+import com.microsoft.azure.toolkit.lib.appservice.AppServiceAppSnapshot;
+import com.microsoft.azure.toolkit.lib.appservice.function.FunctionAppBase;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureExecutionException;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
@@ -21,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.File;
 import java.net.URISyntaxException;
 import java.time.Period;
+import java.util.Objects;
 
 import static com.microsoft.azure.toolkit.lib.legacy.function.Constants.APP_SETTING_WEBSITE_RUN_FROM_PACKAGE;
 
@@ -32,7 +35,16 @@ public class RunFromBlobFunctionDeployHandler implements IFunctionDeployHandler
 
     @Override
     public void deploy(File file, WebAppBase target) {
-        final CloudStorageAccount storageAccount = DeployUtils.getCloudStorageAccount(target);
+        deploy(file, target, DeployUtils.getCloudStorageAccount(target));
+    }
+
+    @Override
+    public void deploy(File file, FunctionAppBase<?, ?, ?> functionApp) {
+        final AppServiceAppSnapshot snapshot = Objects.requireNonNull(functionApp.getSnapshot());
+        deploy(file, snapshot.getRemote(), DeployUtils.getCloudStorageAccount(snapshot));
+    }
+
+    private void deploy(File file, WebAppBase target, CloudStorageAccount storageAccount) {
         try {
             final CloudBlockBlob blob = deployArtifactToAzureStorage(target, file, storageAccount);
             final String sasToken = AzureStorageHelper.getSASToken(blob, Period.ofYears(SAS_EXPIRE_DATE_BY_YEAR));
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.microsoft.azure.toolkit.lib.appservice.function.core.AzureFunctionsAnnotationConstants.ANONYMOUS;
@@ -52,13 +53,14 @@ public class FunctionApp extends FunctionAppBase<FunctionApp, AppServiceServiceS
     private static final String AUTH_LEVEL = "authLevel";
     private static final String HTTP_TRIGGER = "httpTrigger";
     private static final int SYNC_FUNCTION_MAX_ATTEMPTS = 5;
-    private static final int SYNC_FUNCTION_DELAY = 1;
     private static final String LIST_TRIGGERS = "Querying triggers...";
     private static final String LIST_TRIGGERS_WITH_RETRY = "Querying triggers (Attempt {0}/{1})...";
     private static final String NO_TRIGGERS_FOUNDED = "No triggers found in deployed function app, " +
             "please try recompile the project by `mvn clean package` and deploy again.";
-    private static final int LIST_TRIGGERS_MAX_RETRY = 5;
-    private static final int LIST_TRIGGERS_RETRY_PERIOD_IN_SECONDS = 10;
+    private static final String PARTIAL_TRIGGERS_FOUNDED = "Only %d of %d deployed functions are found in function app.";
+    private static final int LIST_TRIGGERS_MAX_RETRY = 8;
+    private static final Duration PROBE_MIN_BACKOFF = Duration.ofMillis(500);
+    private static final Duration PROBE_MAX_BACKOFF = Duration.ofSeconds(10);
 
     protected FunctionApp(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull FunctionAppModule module) {
         super(name, resourceGroupName, module);
@@ -152,10 +154,21 @@ public class FunctionApp extends FunctionAppBase<FunctionApp, AppServiceServiceS
         return this.deploymentModule;
     }
 
-    public void listHTTPTriggerUrls() throws Exception {
+    public void listHTTPTriggerUrls() {
+        listHTTPTriggerUrls(0);
+    }
+
+    /**
+     * sync triggers and list http trigger urls of the app, triggers are queried with backoff (starting from sub-second)
+     * until the host reports at least {@code expectedFunctions} functions.
+     * trigger urls come along with the function list (`invokeUrlTemplate`), so no per-function request is needed.
+     *
+     * @param expectedFunctions number of functions deployed (e.g. staged `function.json` files), 0 if unknown.
+     */
+    public void listHTTPTriggerUrls(int expectedFunctions) {
         final IAzureMessager messager = AzureMessager.getMessager();
         trySyncTriggers();
-        final List<FunctionEntity> triggers = trySyncListFunctions();
+        final List<FunctionEntity> triggers = trySyncListFunctions(expectedFunctions);
         final List<FunctionEntity> httpFunction = triggers.stream()
                 .filter(function -> function.getTrigger() != null &&
                         StringUtils.equalsIgnoreCase(function.getTrigger().getType(), HTTP_TRIGGER))
@@ -178,9 +191,8 @@ public class FunctionApp extends FunctionAppBase<FunctionApp, AppServiceServiceS
     }
 
     // Refers https://github.com/Azure/azure-functions-core-tools/blob/3.0.3568/src/Azure.Functions.Cli/Actions/AzureActions/PublishFunctionAppAction.cs#L452
-    private void trySyncTriggers() throws InterruptedException {
+    private void trySyncTriggers() {
         AzureMessager.getMessager().info(SYNC_TRIGGERS);
-        Thread.sleep(5 * 1000);
         Mono.fromRunnable(() -> {
                     try {
                         this.syncTriggers();
@@ -190,19 +202,36 @@ public class FunctionApp extends FunctionAppBase<FunctionApp, AppServiceServiceS
                         }
                     }
                 }).subscribeOn(Schedulers.boundedElastic())
-                .retryWhen(Retry.fixedDelay(SYNC_FUNCTION_MAX_ATTEMPTS - 1, Duration.ofSeconds(SYNC_FUNCTION_DELAY))).block();
+                .retryWhen(backoff(SYNC_FUNCTION_MAX_ATTEMPTS - 1)).block();
     }
 
-    private List<FunctionEntity> trySyncListFunctions() {
+    private List<FunctionEntity> trySyncListFunctions(int expectedFunctions) {
         final int[] count = {0};
+        final AtomicReference<List<FunctionEntity>> listed = new AtomicReference<>(Collections.emptyList());
         final IAzureMessager messager = AzureMessager.getMessager();
         return Mono.fromCallable(() -> {
                     final AzureString message = count[0]++ == 0 ? AzureString.fromString(LIST_TRIGGERS) : AzureString.format(LIST_TRIGGERS_WITH_RETRY, count[0], LIST_TRIGGERS_MAX_RETRY);
                     messager.info(message);
-                    return Optional.of(this.listFunctions())
-                            .filter(CollectionUtils::isNotEmpty)
-                            .orElseThrow(() -> new AzureToolkitRuntimeException(NO_TRIGGERS_FOUNDED));
+                    final List<FunctionEntity> functions = this.listFunctions();
+                    listed.set(functions);
+                    if (CollectionUtils.isEmpty(functions)) {
+                        throw new AzureToolkitRuntimeException(NO_TRIGGERS_FOUNDED);
+                    }
+                    if (functions.size() < expectedFunctions) { // host hasn't loaded all the deployed functions yet.
+                        throw new AzureToolkitRuntimeException(String.format(PARTIAL_TRIGGERS_FOUNDED, functions.size(), expectedFunctions));
+                    }
+                    return functions;
                 }).subscribeOn(Schedulers.boundedElastic())
-                .retryWhen(Retry.fixedDelay(LIST_TRIGGERS_MAX_RETRY - 1, Duration.ofSeconds(LIST_TRIGGERS_RETRY_PERIOD_IN_SECONDS))).block();
+                .retryWhen(backoff(LIST_TRIGGERS_MAX_RETRY - 1))
+                .onErrorResume(e -> CollectionUtils.isEmpty(listed.get()) ? Mono.error(e) : Mono.fromCallable(() -> {
+                    messager.warning(e.getMessage());
+                    return listed.get();
+                })).block();
+    }
+
+    @Nonnull
+    private static Retry backoff(long maxRetries) {
+        return Retry.backoff(maxRetries, PROBE_MIN_BACKOFF).maxBackoff(PROBE_MAX_BACKOFF)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 }
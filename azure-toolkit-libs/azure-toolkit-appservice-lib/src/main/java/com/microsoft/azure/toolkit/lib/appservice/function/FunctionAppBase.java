@@ -69,7 +69,7 @@ public abstract class FunctionAppBase<T extends FunctionAppBase<T, P, F>, P exte
 
     public void deploy(File targetFile, FunctionDeployType functionDeployType) {
         OperationContext.action().setTelemetryProperty(FUNCTION_DEPLOY_TYPE, functionDeployType.name());
-        getDeployHandlerByType(functionDeployType).deploy(targetFile, getFullRemote());
+        getDeployHandlerByType(functionDeployType).deploy(targetFile, this);
     }
 
     protected AzureFunctionsAdminClient getAdminClient() {
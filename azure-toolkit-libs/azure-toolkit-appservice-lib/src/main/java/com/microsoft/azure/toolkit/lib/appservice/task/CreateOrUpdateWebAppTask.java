@@ -15,6 +15,7 @@ import com.microsoft.azure.toolkit.lib.appservice.model.JavaVersion;
 import com.microsoft.azure.toolkit.lib.appservice.model.OperatingSystem;
 import com.microsoft.azure.toolkit.lib.appservice.model.Runtime;
 import com.microsoft.azure.toolkit.lib.appservice.model.WebContainer;
+import com.microsoft.azure.toolkit.lib.appservice.plan.AppServicePlan;
 import com.microsoft.azure.toolkit.lib.appservice.plan.AppServicePlanDraft;
 import com.microsoft.azure.toolkit.lib.appservice.webapp.AzureWebApp;
 import com.microsoft.azure.toolkit.lib.appservice.webapp.WebApp;
@@ -24,6 +25,7 @@ import com.microsoft.azure.toolkit.lib.appservice.webapp.WebAppDeploymentSlotDra
 import com.microsoft.azure.toolkit.lib.appservice.webapp.WebAppDraft;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.Availability;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
@@ -45,6 +47,10 @@ import static com.microsoft.azure.toolkit.lib.appservice.utils.Utils.throwForbid
 @Slf4j
 public class CreateOrUpdateWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
     private static final String CREATE_NEW_WEB_APP = "createNewWebApp";
+    private static final String CHECK_NAME = "checkName";
+    private static final String CREATE_RESOURCE_GROUP = "createResourceGroup";
+    private static final String COMMIT_PLAN = "commitPlan";
+    private static final String CREATE_APP = "createApp";
     private static final String WEBAPP_NOT_EXIST_FOR_SLOT = "Target Web App does not exist. Please make sure the Web App name is correct.";
 
     private final AppServiceConfig config;
@@ -73,11 +79,6 @@ public class CreateOrUpdateWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
                 if (skipCreateAzureResource) {
                     throwForbidCreateResourceWarning("Web app", config.appName());
                 }
-                final Availability result = Objects.requireNonNull(az.get(config.subscriptionId(), null)).checkNameAvailability(config.appName());
-                if (!result.isAvailable()) {
-                    throw new AzureToolkitRuntimeException(AzureString.format("Cannot create webapp {0} due to error: {1}",
-                            config.appName(), result.getUnavailabilityReason()).getString());
-                }
                 return create();
             } else {
                 return update(target);
@@ -95,25 +96,37 @@ public class CreateOrUpdateWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
         }
     }
 
+    /**
+     * name check and resource group creation run concurrently, the plan is committed only after the name is checked
+     * (and the resource group is created if they are in the same resource group), so that no plan is created or
+     * updated for an unavailable name. the web app is created once all of them are done.
+     */
     @AzureOperation(name = "azure/webapp.create_app.app", params = {"this.config.appName()"})
     private WebApp create() {
         OperationContext.action().setTelemetryProperty(CREATE_NEW_WEB_APP, String.valueOf(true));
         final Region region = this.config.region();
         final AppServicePlanConfig planConfig = config.getServicePlanConfig();
-
-        new CreateResourceGroupTask(this.config.subscriptionId(), this.config.resourceGroup(), region).doExecute();
-
-        final AppServicePlanDraft planDraft = Azure.az(AzureAppService.class).plans(planConfig.getSubscriptionId())
-            .updateOrCreate(planConfig.getName(), planConfig.getResourceGroupName());
-        planDraft.setPlanConfig(planConfig);
-
-        final WebAppDraft appDraft = Azure.az(AzureWebApp.class).webApps(config.subscriptionId()).create(config.appName(), config.resourceGroup());
-        appDraft.setAppServicePlan(planDraft.commit());
-        appDraft.setRuntime(getRuntime(config.runtime()));
-        appDraft.setDiagnosticConfig(config.diagnosticConfig());
-        appDraft.setDockerConfiguration(getDockerConfiguration(config.runtime()));
-        appDraft.setAppSettings(config.appSettings());
-        return appDraft.createIfNotExist();
+        final boolean planInSameGroup = StringUtils.equalsIgnoreCase(planConfig.getResourceGroupName(), config.resourceGroup());
+
+        final ProvisioningGraph graph = new ProvisioningGraph();
+        graph.step(CHECK_NAME, this::checkNameAvailability)
+            .step(CREATE_RESOURCE_GROUP, () -> new CreateResourceGroupTask(this.config.subscriptionId(), this.config.resourceGroup(), region).doExecute())
+            .step(COMMIT_PLAN, () -> {
+                final AppServicePlanDraft planDraft = Azure.az(AzureAppService.class).plans(planConfig.getSubscriptionId())
+                    .updateOrCreate(planConfig.getName(), planConfig.getResourceGroupName());
+                planDraft.setPlanConfig(planConfig);
+                return commitIfModified(planDraft);
+            }, planInSameGroup ? new String[]{CHECK_NAME, CREATE_RESOURCE_GROUP} : new String[]{CHECK_NAME})
+            .step(CREATE_APP, () -> {
+                final WebAppDraft appDraft = Azure.az(AzureWebApp.class).webApps(config.subscriptionId()).create(config.appName(), config.resourceGroup());
+                appDraft.setAppServicePlan(graph.get(COMMIT_PLAN));
+                appDraft.setRuntime(getRuntime(config.runtime()));
+                appDraft.setDiagnosticConfig(config.diagnosticConfig());
+                appDraft.setDockerConfiguration(getDockerConfiguration(config.runtime()));
+                appDraft.setAppSettings(config.appSettings());
+                return appDraft.createIfNotExist();
+            }, CHECK_NAME, CREATE_RESOURCE_GROUP, COMMIT_PLAN);
+        return Objects.requireNonNull(graph.get(CREATE_APP));
     }
 
     @AzureOperation(name = "azure/webapp.update_app.app", params = {"this.config.appName()"})
@@ -129,7 +142,7 @@ public class CreateOrUpdateWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
         }
         planDraft.setPlanConfig(servicePlanConfig);
 
-        draft.setAppServicePlan(planDraft.commit());
+        draft.setAppServicePlan(commitIfModified(planDraft));
         draft.setRuntime(runtime);
         draft.setDockerConfiguration(getDockerConfiguration(config.runtime()));
         draft.setAppSettings(ObjectUtils.firstNonNull(config.appSettings(), new HashMap<>()));
@@ -138,6 +151,32 @@ public class CreateOrUpdateWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
         return draft.updateIfExist();
     }
 
+    private Availability checkNameAvailability() {
+        final Availability result = Objects.requireNonNull(Azure.az(AzureWebApp.class).get(config.subscriptionId(), null)).checkNameAvailability(config.appName());
+        if (!result.isAvailable()) {
+            throw new AzureToolkitRuntimeException(AzureString.format("Cannot create webapp {0} due to error: {1}",
+                    config.appName(), result.getUnavailabilityReason()).getString());
+        }
+        return result;
+    }
+
+    /**
+     * skip committing an existing plan if the (only updatable) pricing tier is the same as the cached remote.
+     */
+    private AppServicePlan commitIfModified(final AppServicePlanDraft planDraft) {
+        final AppServicePlan origin = planDraft.getOrigin();
+        if (Objects.nonNull(origin) && origin.exists() &&
+            (Objects.isNull(planDraft.getPricingTier()) || Objects.equals(planDraft.getPricingTier(), origin.getPricingTier()))) {
+            // not committed, so the warning in AppServicePlanDraft.updateResourceInAzure is not reached.
+            if (!Objects.equals(planDraft.getRegion(), origin.getRegion())) {
+                AzureMessager.getMessager().warning(AzureString.format("Skip region update for existing service plan ({0}) since it is not allowed.", origin.getName()));
+            }
+            planDraft.reset();
+            return origin;
+        }
+        return planDraft.commit();
+    }
+
     @AzureOperation(name = "internal/webapp.create_slot.slot|app", params = {"this.config.deploymentSlotName()", "this.config.appName()"})
     private WebAppDeploymentSlot createDeploymentSlot(final WebAppDeploymentSlotDraft draft) {
         draft.setRuntime(getRuntime(config.runtime()));
@@ -29,6 +29,7 @@ public class DeployFunctionAppTask extends AzureTask<FunctionAppBase<?, ?, ?>> {
 
     private static final String RUNNING = "Running";
     private static final String LOCAL_SETTINGS_FILE = "local.settings.json";
+    private static final String FUNCTION_JSON = "function.json";
     private static final String DEPLOY_START = "Starting deployment...";
     private static final String DEPLOY_FINISH = "Deployment succeed";
     private static final String SKIP_DEPLOYMENT_FOR_DOCKER_APP_SERVICE = "Skip deployment for docker app service";
@@ -68,7 +69,7 @@ public class DeployFunctionAppTask extends AzureTask<FunctionAppBase<?, ?, ?>> {
         deployArtifact();
         if (target instanceof FunctionApp && openStreamingLogOnFailure) {
             try {
-                ((FunctionApp) target).listHTTPTriggerUrls();
+                ((FunctionApp) target).listHTTPTriggerUrls(countStagedFunctions());
             } catch (final Exception e) {
                 // show warning instead of exception for list triggers
                 messager.warning(FAILED_TO_LIST_TRIGGERS);
@@ -95,6 +96,14 @@ public class DeployFunctionAppTask extends AzureTask<FunctionAppBase<?, ?, ?>> {
         messager.info(String.format(DEPLOY_FINISH));
     }
 
+    /**
+     * each function is staged as a sub folder containing a `function.json`.
+     */
+    private int countStagedFunctions() {
+        final File[] functions = stagingDirectory.listFiles(f -> f.isDirectory() && new File(f, FUNCTION_JSON).isFile());
+        return Objects.isNull(functions) ? 0 : functions.length;
+    }
+
     private File packageStagingDirectory() {
         try {
             final File zipFile = Files.createTempFile("azure-functions", ".zip").toFile();
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.appservice.task;
+
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.common.operation.OperationThreadContext;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * DAG of provisioning steps, a step starts as soon as all the steps it depends on are done, so independent steps
+ * (e.g. name check and resource group creation) run concurrently. each step runs at most once, in a context derived
+ * from the thread building the graph, so that operation/messager context is kept.
+ * steps must be added after the steps they depend on.
+ */
+public class ProvisioningGraph {
+    private final Map<String, Mono<Optional<Object>>> steps = new LinkedHashMap<>();
+
+    @Nonnull
+    public ProvisioningGraph step(@Nonnull String name, @Nonnull Callable<?> body, @Nonnull String... dependsOn) {
+        if (this.steps.containsKey(name)) {
+            throw new AzureToolkitRuntimeException(String.format("provisioning step '%s' is already defined.", name));
+        }
+        final Mono<?>[] dependencies = Arrays.stream(dependsOn).map(d -> Objects.requireNonNull(this.steps.get(d),
+            String.format("provisioning step '%s' should be defined before '%s'.", d, name))).toArray(Mono[]::new);
+        final OperationThreadContext context = OperationThreadContext.current().derive();
+        final Mono<Optional<Object>> step = Mono.when(dependencies)
+            .then(Mono.fromCallable(() -> Optional.<Object>ofNullable(call(context, body))).subscribeOn(Schedulers.boundedElastic()))
+            .cache();
+        this.steps.put(name, step);
+        return this;
+    }
+
+    /**
+     * @return result of step {@code name}, the step (and its dependencies) is run if not yet.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull String name) {
+        final Mono<Optional<Object>> step = Objects.requireNonNull(this.steps.get(name), String.format("provisioning step '%s' is not defined.", name));
+        return (T) Objects.requireNonNull(step.block()).orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        return this.steps.keySet().stream().collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    @Nullable
+    private static Object call(@Nonnull OperationThreadContext context, @Nonnull Callable<?> body) throws Exception {
+        final AtomicReference<Object> result = new AtomicReference<>();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        context.run(() -> {
+            try {
+                result.set(body.call());
+            } catch (final Exception e) {
+                error.set(e);
+            }
+        });
+        if (Objects.nonNull(error.get())) {
+            throw error.get();
+        }
+        return result.get();
+    }
+}
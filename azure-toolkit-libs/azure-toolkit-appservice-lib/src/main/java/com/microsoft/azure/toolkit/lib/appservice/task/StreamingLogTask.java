@@ -12,16 +12,37 @@ import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.task.AzureTask;
-import reactor.core.Disposable;
+import com.microsoft.azure.toolkit.lib.common.utils.StreamingLogTailer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
 
+@Slf4j
 public class StreamingLogTask extends AzureTask<AppServiceAppBase<?, ?, ?>> {
+    /**
+     * markers of app service container finishing startup, successfully or not.
+     */
+    public static final List<Pattern> TERMINAL_PATTERNS = Collections.unmodifiableList(Arrays.asList(
+        Pattern.compile("initialized successfully and is ready to serve requests", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("didn't respond to HTTP pings", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("has exited, failing site start", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("because it failed during startup", Pattern.CASE_INSENSITIVE)
+    ));
+
     private final AppServiceAppBase<?, ?, ?> webApp;
-    private Disposable subscription;
+    /**
+     * tail settings, e.g. idle timeout, max duration and terminal markers.
+     */
+    @Getter
+    private final StreamingLogTailer tailer = new StreamingLogTailer();
 
     public StreamingLogTask(AppServiceAppBase<?, ?, ?> webApp) {
         this.webApp = webApp;
+        this.tailer.setTerminalPatterns(TERMINAL_PATTERNS);
     }
 
     @Override
@@ -37,20 +58,15 @@ public class StreamingLogTask extends AzureTask<AppServiceAppBase<?, ?, ?>> {
         final IAzureMessager messager = AzureMessager.getMessager();
         messager.info(AzureString.format("Opening streaming log of app({0})...", webApp.getName()));
         messager.debug("###############STREAMING LOG BEGIN##################");
-        this.subscription = this.webApp.streamingLogs(true)
-                .doFinally((type) -> messager.debug("###############STREAMING LOG END##################"))
-                .subscribe(messager::debug);
         try {
-            TimeUnit.MINUTES.sleep(1);
-        } catch (final Exception ignored) {
+            final long dropped = this.tailer.tail(() -> this.webApp.streamingLogs(true), messager::debug);
+            if (dropped > 0) {
+                messager.debug(String.format("%d log lines are skipped because the console can't keep up.", dropped));
+            }
+        } catch (final Exception e) {
+            log.debug("failed to stream logs of app({}).", webApp.getName(), e);
         } finally {
-            stopStreamingLog();
-        }
-    }
-
-    private synchronized void stopStreamingLog() {
-        if (subscription != null && !subscription.isDisposed()) {
-            subscription.dispose();
+            messager.debug("###############STREAMING LOG END##################");
         }
     }
 }
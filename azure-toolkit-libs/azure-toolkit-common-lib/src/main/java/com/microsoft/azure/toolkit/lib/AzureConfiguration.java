@@ -45,10 +45,15 @@ public class AzureConfiguration {
     private int monitorQueryRowNumber = 200;
     private boolean authPersistenceEnabled = true;
     private String eventHubsConsumerGroup = "$Default";
+    private int eventHubsPrefetchCount = 100;
 
     private String azuritePath;
     private String azuriteWorkspace;
     private Boolean enableLeaseMode = false;
+    /**
+     * sync resources incrementally by changes from Azure Resource Graph, instead of reloading them all on refresh.
+     */
+    private boolean resourceChangeFeedEnabled = false;
 
     public void setProxyInfo(ProxyInfo proxy) {
         this.setProxySource(proxy.getSource());
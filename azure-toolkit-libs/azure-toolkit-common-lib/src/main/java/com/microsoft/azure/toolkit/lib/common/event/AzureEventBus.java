@@ -5,43 +5,86 @@
 
 package com.microsoft.azure.toolkit.lib.common.event;
 
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NonNls;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-@SuppressWarnings("UnstableApiUsage")
+/**
+ * events are delivered to each listener asynchronously on a shared scheduler, a listener receives events of the same
+ * source in the order they are emitted, and a slow listener doesn't hold up others. events of {@link #setCoalescing
+ * coalescing} types (only idempotent ones, e.g. status changes, by default) are queued and delivered in batches once
+ * per {@link #COALESCING_WINDOW}, and an event identical (same type, source and payload) to one still waiting in the
+ * queue replaces it, i.e. it's moved to the tail of the queue, so that the latest state of a source is delivered last.
+ */
+@Slf4j
 public class AzureEventBus {
+    public static final Duration COALESCING_WINDOW = Duration.ofMillis(50);
+    @NonNls
+    private static final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    /**
+     * types whose listeners only care about the latest state, so that repeated events can be merged.
+     */
     @NonNls
-    private static final Map<String, EventBus> buses = new ConcurrentHashMap<>();
+    private static final Set<String> coalescingTypes = ConcurrentHashMap.newKeySet();
+
+    static {
+        coalescingTypes.add("resource.status_changed.resource");
+    }
 
     public static void on(@Nonnull final String type, @Nonnull EventListener listener) {
-        getBus(type).register(listener);
+        getChannel(type).listeners.add(listener);
     }
 
     public static void off(@Nonnull final String type, @Nonnull EventListener listener) {
-        getBus(type).unregister(listener);
+        getChannel(type).listeners.remove(listener);
+    }
+
+    /**
+     * listen to events of {@code type} in batches, i.e. all events of the type emitted within a coalescing window if
+     * the type is coalescing, otherwise every event in its own batch. batches are delivered to a listener one by one.
+     */
+    public static void on(@Nonnull final String type, @Nonnull BatchEventListener listener) {
+        getChannel(type).batchListeners.add(listener);
+    }
+
+    public static void off(@Nonnull final String type, @Nonnull BatchEventListener listener) {
+        getChannel(type).batchListeners.remove(listener);
     }
 
     public static void once(@Nonnull final String type, @Nonnull BiConsumer<Object, Object> listener) {
-        final EventBus bus = getBus(type);
+        final Set<EventListener> registered = getChannel(type).listeners;
         final EventListener[] listeners = new EventListener[1];
         listeners[0] = new EventListener((e) -> {
             listener.accept(e.getSource(), e.getPayload());
-            bus.unregister(listeners[0]);
+            registered.remove(listeners[0]);
         });
-        bus.register(listeners[0]);
+        registered.add(listeners[0]);
     }
 
     public static void emit(@Nonnull final String type) {
@@ -57,11 +100,31 @@ public class AzureEventBus {
     }
 
     public static <T> void emit(@Nonnull final String type, @Nonnull AzureEvent event) {
-        getBus(type).post(event);
+        getChannel(type).offer(event);
     }
 
-    private static EventBus getBus(String eventType) {
-        return buses.computeIfAbsent(eventType, (e) -> new AsyncEventBus(command -> Schedulers.boundedElastic().schedule(command)));
+    /**
+     * coalescing should only be enabled for types whose listeners don't count occurrences of events.
+     */
+    public static void setCoalescing(@Nonnull final String type, boolean coalescing) {
+        if (coalescing) {
+            coalescingTypes.add(type);
+        } else {
+            coalescingTypes.remove(type);
+        }
+    }
+
+    public static boolean isCoalescing(@Nonnull final String type) {
+        return coalescingTypes.contains(type);
+    }
+
+    @Nonnull
+    public static Metrics getMetrics(@Nonnull final String type) {
+        return getChannel(type).getMetrics();
+    }
+
+    private static Channel getChannel(String eventType) {
+        return channels.computeIfAbsent(eventType, Channel::new);
     }
 
     @RequiredArgsConstructor
@@ -70,12 +133,40 @@ public class AzureEventBus {
         @Nonnull
         private final Consumer<AzureEvent> listener;
 
-        @Subscribe
         public void onEvent(@Nonnull AzureEvent event) {
             this.listener.accept(event);
         }
     }
 
+    @RequiredArgsConstructor
+    public static class BatchEventListener {
+
+        @Nonnull
+        private final Consumer<List<AzureEvent>> listener;
+
+        public void onEvents(@Nonnull List<AzureEvent> events) {
+            this.listener.accept(events);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Metrics {
+        @Nonnull
+        private final String type;
+        private final int queueDepth;
+        private final long emitted;
+        private final long coalesced;
+        private final long delivered;
+        /**
+         * average time from emitting to delivering of events.
+         */
+        @Nonnull
+        private final Duration averageLatency;
+        @Nonnull
+        private final Duration maxLatency;
+    }
+
     @Getter
     @RequiredArgsConstructor
     @AllArgsConstructor
@@ -87,4 +178,175 @@ public class AzureEventBus {
         @Nullable
         private Object payload;
     }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class EventKey {
+        @Nullable
+        private final Object source;
+        @Nullable
+        private final Object payload;
+    }
+
+    @RequiredArgsConstructor
+    private static class QueuedEvent {
+        @Nullable
+        private final EventKey key;
+        private final AzureEvent event;
+        private final long emittedAt = System.nanoTime();
+        /**
+         * replaced by an identical event emitted later, which is queued at the tail.
+         */
+        private volatile boolean replaced;
+    }
+
+    /**
+     * deliveries to a listener of events from a source, run one by one in emitting order.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class DeliveryKey {
+        @Nonnull
+        private final Object listener;
+        @Nullable
+        private final Object source;
+    }
+
+    private static class Channel {
+        private static final Scheduler scheduler = Schedulers.boundedElastic();
+        private final String type;
+        private final Set<EventListener> listeners = new CopyOnWriteArraySet<>();
+        private final List<BatchEventListener> batchListeners = new CopyOnWriteArrayList<>();
+        private final Queue<QueuedEvent> queue = new ConcurrentLinkedQueue<>();
+        private final Map<EventKey, QueuedEvent> pending = new ConcurrentHashMap<>();
+        /**
+         * deliveries waiting or running, a key is present only while its deliveries are being drained.
+         */
+        private final Map<DeliveryKey, Queue<Runnable>> deliveries = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicLong emitted = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        Channel(@Nonnull String type) {
+            this.type = type;
+        }
+
+        void offer(@Nonnull AzureEvent event) {
+            this.emitted.incrementAndGet();
+            if (!isCoalescing(this.type)) {
+                this.deliver(Collections.singletonList(new QueuedEvent(null, event)));
+                return;
+            }
+            final EventKey key = new EventKey(event.getSource(), event.getPayload());
+            final QueuedEvent queued = new QueuedEvent(key, event);
+            final QueuedEvent replaced = this.pending.put(key, queued);
+            if (Objects.nonNull(replaced)) {
+                replaced.replaced = true;
+                this.coalesced.incrementAndGet();
+            } else {
+                this.depth.incrementAndGet();
+            }
+            this.queue.offer(queued);
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                scheduler.schedule(this::drain, COALESCING_WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void drain() {
+            try {
+                final List<QueuedEvent> batch = new ArrayList<>();
+                for (QueuedEvent e = this.queue.poll(); e != null; e = this.queue.poll()) {
+                    if (e.replaced) {
+                        continue;
+                    }
+                    // released before delivering, so that an event emitted by listeners is not coalesced into delivered ones.
+                    this.pending.remove(e.key, e);
+                    batch.add(e);
+                }
+                this.depth.addAndGet(-batch.size());
+                if (!batch.isEmpty()) {
+                    this.deliver(batch);
+                }
+            } finally {
+                this.scheduled.set(false);
+                if (!this.queue.isEmpty()) {
+                    this.schedule();
+                }
+            }
+        }
+
+        private void deliver(@Nonnull List<QueuedEvent> batch) {
+            final List<AzureEvent> events = new ArrayList<>(batch.size());
+            final long now = System.nanoTime();
+            for (final QueuedEvent e : batch) {
+                final long latency = now - e.emittedAt;
+                this.totalLatency.addAndGet(latency);
+                this.maxLatency.accumulateAndGet(latency, Math::max);
+                events.add(e.event);
+            }
+            final List<AzureEvent> readonly = Collections.unmodifiableList(events);
+            for (final BatchEventListener listener : this.batchListeners) {
+                // batches may mix sources, so they are delivered to a batch listener one by one.
+                this.dispatch(new DeliveryKey(listener, null), () -> listener.onEvents(readonly));
+            }
+            for (final AzureEvent event : events) {
+                for (final EventListener listener : this.listeners) {
+                    this.dispatch(new DeliveryKey(listener, event.getSource()), () -> listener.onEvent(event));
+                }
+            }
+            this.delivered.addAndGet(events.size());
+        }
+
+        /**
+         * run the delivery after the ones of the same key dispatched earlier, deliveries of different keys run concurrently.
+         */
+        private void dispatch(@Nonnull DeliveryKey key, @Nonnull Runnable delivery) {
+            final boolean[] created = {false};
+            this.deliveries.compute(key, (k, deliveries) -> {
+                if (Objects.isNull(deliveries)) {
+                    deliveries = new ConcurrentLinkedQueue<>();
+                    created[0] = true;
+                }
+                deliveries.offer(delivery);
+                return deliveries;
+            });
+            if (created[0]) {
+                scheduler.schedule(() -> this.drainDeliveries(key));
+            }
+        }
+
+        private void drainDeliveries(@Nonnull DeliveryKey key) {
+            final Queue<Runnable> deliveries = this.deliveries.get(key);
+            while (true) {
+                final Runnable delivery = deliveries.poll();
+                if (Objects.isNull(delivery)) {
+                    // removed only if no delivery is dispatched meanwhile, otherwise keep draining.
+                    if (Objects.isNull(this.deliveries.computeIfPresent(key, (k, d) -> d.isEmpty() ? null : d))) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    delivery.run();
+                } catch (final Throwable t) {
+                    log.warn("error occurs when delivering '{}' events to listener.", this.type, t);
+                }
+            }
+        }
+
+        @Nonnull
+        Metrics getMetrics() {
+            final long delivered = this.delivered.get();
+            final Duration average = Duration.ofNanos(delivered > 0 ? this.totalLatency.get() / delivered : 0);
+            return new Metrics(this.type, this.depth.get(), this.emitted.get(), this.coalesced.get(), delivered, average, Duration.ofNanos(this.maxLatency.get()));
+        }
+    }
 }
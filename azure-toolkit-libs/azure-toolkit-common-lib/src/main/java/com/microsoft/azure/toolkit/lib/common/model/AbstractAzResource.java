@@ -352,6 +352,14 @@ public abstract class AbstractAzResource<T extends AbstractAzResource<T, P, R>,
         return this.statusRef.get();
     }
 
+    /**
+     * @return current status without (re)loading the resource.
+     */
+    @Nonnull
+    String getCachedStatus() {
+        return this.statusRef.get();
+    }
+
     protected void doModify(@Nonnull Runnable body, @Nullable String status) {
         if (this.lock.tryLock()) {
             try {
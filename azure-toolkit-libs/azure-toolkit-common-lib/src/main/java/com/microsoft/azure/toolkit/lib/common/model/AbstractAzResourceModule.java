@@ -11,8 +11,12 @@ import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
 import com.azure.resourcemanager.resources.fluentcore.arm.collection.SupportsGettingById;
 import com.azure.resourcemanager.resources.fluentcore.arm.collection.SupportsGettingByName;
 import com.azure.resourcemanager.resources.fluentcore.arm.collection.SupportsGettingByResourceGroup;
+import com.azure.resourcemanager.resources.fluentcore.arm.collection.SupportsListingByResourceGroup;
+import com.azure.resourcemanager.resources.fluentcore.arm.models.HasId;
+import com.azure.resourcemanager.resources.fluentcore.arm.models.HasName;
 import com.azure.resourcemanager.resources.fluentcore.collection.SupportsDeletingById;
 import com.azure.resourcemanager.resources.fluentcore.collection.SupportsListing;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.microsoft.azure.toolkit.lib.AzService;
 import com.microsoft.azure.toolkit.lib.Azure;
@@ -21,43 +25,58 @@ import com.microsoft.azure.toolkit.lib.common.event.AzureEventBus;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
-import com.microsoft.azure.toolkit.lib.common.task.AzureTaskManager;
 import com.microsoft.azure.toolkit.lib.common.utils.Debouncer;
 import com.microsoft.azure.toolkit.lib.common.utils.TailingDebouncer;
+import com.microsoft.azure.toolkit.lib.resource.AzureResources;
 import com.microsoft.azure.toolkit.lib.resource.GenericResource;
 import com.microsoft.azure.toolkit.lib.resource.GenericResourceModule;
+import com.microsoft.azure.toolkit.lib.resource.ResourceGraphChangeFeed;
 import com.microsoft.azure.toolkit.lib.resource.ResourceDeployment;
+import com.microsoft.azure.toolkit.lib.resource.ResourceDeploymentModule;
 import com.microsoft.azure.toolkit.lib.resource.ResourceGroup;
 import com.microsoft.azure.toolkit.lib.resource.ResourceGroupModule;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource.isNotFoundException;
 import static com.microsoft.azure.toolkit.lib.common.model.AzResource.RESOURCE_GROUP_PLACEHOLDER;
@@ -77,11 +96,42 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
     @Nonnull
     @EqualsAndHashCode.Include
     protected final P parent;
+    private static final int APPLY_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int MIN_APPLY_CHUNK_SIZE = 32;
+    private static final int MAX_CONCURRENT_GROUP_LOADS = 8;
+    /**
+     * changes are indexed with delay, so changes shortly before last sync are queried again.
+     */
+    private static final Duration CHANGE_FEED_OVERLAP = Duration.ofMinutes(5);
+    /**
+     * set on threads loading changed resources, where listing the module to find a resource would wait for the
+     * sync holding the module lock.
+     */
+    private static final ThreadLocal<Boolean> LOADING_CHANGES = ThreadLocal.withInitial(() -> false);
+
     @Nonnull
     @ToString.Include
     private final AtomicLong syncTimeRef = new AtomicLong(-1);
     @Nonnull
     private final Map<String, Optional<T>> resources = Collections.synchronizedMap(new LinkedHashMap<>());
+    /**
+     * listed resources that are not materialized yet, keyed by lower-cased id.
+     */
+    @Nonnull
+    private final Map<String, Projection> projections = Collections.synchronizedMap(new LinkedHashMap<>());
+    /**
+     * sync time of resource groups listed separately, keyed by lower-cased resource group name.
+     */
+    @Nonnull
+    private final Map<String, Long> groupSyncTimes = new ConcurrentHashMap<>();
+    /**
+     * start time of last full or incremental sync, changes since then are to be applied on next sync.
+     */
+    @Nonnull
+    private final AtomicLong changeCursor = new AtomicLong(-1);
+    @Setter
+    @Nullable
+    private ResourceChangeFeed changeFeed;
 
     @Nonnull
     private final Debouncer fireEvents = new TailingDebouncer(this::fireChildrenChangedEvent, 300);
@@ -101,6 +151,10 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         if (this.lock.tryLock()) {
             try {
                 this.resources.entrySet().removeIf(e -> !e.getValue().isPresent());
+                if (Objects.isNull(this.getChangeFeed()) || this.changeCursor.get() < 1) {
+                    this.projections.clear(); // otherwise, they are kept and updated by changes on next sync.
+                }
+                this.groupSyncTimes.clear();
                 this.syncTimeRef.set(-1);
             } finally {
                 this.lock.unlock();
@@ -115,39 +169,172 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
     @Override
     public List<T> list() { // getResources
         log.debug("[{}]:list()", this.name);
+        if (!this.syncResources()) {
+            return Collections.emptyList();
+        }
+        log.debug("[{}]:list->this.materializeAll()", this.name);
+        this.materializeAll(p -> true);
+        log.debug("[{}]:list->this.resources.values()", this.name);
+        return this.resources.values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+    }
+
+    /**
+     * list summaries of all resources without materializing the listed ones, preferred for bulk listing.
+     */
+    @Nonnull
+    public List<AzResourceSummary> listSummaries() {
+        log.debug("[{}]:listSummaries()", this.name);
+        if (!this.syncResources()) {
+            return Collections.emptyList();
+        }
+        final List<AzResourceSummary> result = this.listCachedResources().stream().map(this::toSummary).collect(Collectors.toList());
+        synchronized (this.projections) {
+            this.projections.values().forEach(p -> result.add(p.summary));
+        }
+        return result;
+    }
+
+    /**
+     * @return false if resources can't be listed since the parent is a draft for creating.
+     */
+    private boolean syncResources() {
         if (isAuthRequired()) {
             Azure.az(IAzureAccount.class).account();
         }
         if (this.parent instanceof AbstractAzResource && ((AbstractAzResource<?, ?, ?>) this.parent).isDraftForCreating()) {
-            log.debug("[{}]:list->parent.isDraftForCreating()=true", this.name);
-            return Collections.emptyList();
+            log.debug("[{}]:syncResources->parent.isDraftForCreating()=true", this.name);
+            return false;
         }
         if (this.syncTimeRef.get() < 1) { // 0, -1 or too old.
             try {
                 this.lock.lock();
-                if (this.syncTimeRef.get() == -1) { // -1 or too old.
-                    log.debug("[{}]:list->this.reload()", this.name);
+                if (this.syncTimeRef.get() == -1 && !this.syncResourcesByChanges()) { // -1 or too old.
+                    log.debug("[{}]:syncResources->this.reload()", this.name);
                     this.reloadResources();
                 }
             } finally {
                 this.lock.unlock();
             }
         }
-        log.debug("[{}]:list->this.resources.values()", this.name);
-        return this.resources.values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+        return true;
+    }
+
+    /**
+     * sync cache by applying changes since last sync, if a change feed is available.
+     *
+     * @return false if the cache can't be synced incrementally and should be reloaded fully.
+     */
+    private boolean syncResourcesByChanges() {
+        final ResourceChangeFeed feed = this.getChangeFeed();
+        final long cursor = this.changeCursor.get();
+        if (Objects.isNull(feed) || cursor < 1) {
+            return false;
+        }
+        final OffsetDateTime since = Instant.ofEpochMilli(cursor).minus(CHANGE_FEED_OVERLAP).atOffset(ZoneOffset.UTC);
+        if (Duration.between(since, OffsetDateTime.now(ZoneOffset.UTC)).compareTo(feed.getRetention()) > 0) {
+            log.debug("[{}]:syncResourcesByChanges->changes since {} are not retained", this.name, since);
+            return false;
+        }
+        final long start = System.currentTimeMillis();
+        this.syncTimeRef.set(0);
+        try {
+            log.debug("[{}]:syncResourcesByChanges->feed.query({})", this.name, since);
+            final List<ResourceChangeFeed.ResourceChange> changes = feed.query(this.getSubscriptionId(), this.getFullResourceType(), since);
+            if (Objects.isNull(changes)) {
+                this.syncTimeRef.set(-1);
+                return false;
+            }
+            this.applyChanges(changes);
+            this.changeCursor.set(start);
+            this.syncTimeRef.set(System.currentTimeMillis());
+            return true;
+        } catch (final Exception e) {
+            log.debug("[{}]:syncResourcesByChanges()=EXCEPTION, fallback to reload", this.name, e);
+            this.syncTimeRef.set(-1);
+            return false;
+        }
+    }
+
+    private void applyChanges(@Nonnull List<ResourceChangeFeed.ResourceChange> changes) {
+        final Map<String, ResourceChangeFeed.ResourceChange> latest = new LinkedHashMap<>();
+        changes.forEach(c -> latest.put(c.getResourceId().toLowerCase(), c)); // the latest change of a resource wins.
+        log.debug("[{}]:applyChanges({})", this.name, latest.keySet());
+        final Map<String, Optional<R>> remotes = Flux.fromIterable(latest.values())
+            .flatMap(c -> Mono.fromCallable(() -> Pair.of(c.getResourceId().toLowerCase(), Optional.ofNullable(this.loadChangedResourceIndividually(c))))
+                .subscribeOn(Schedulers.boundedElastic()), MAX_CONCURRENT_GROUP_LOADS)
+            .collectMap(Pair::getLeft, Pair::getRight).block();
+        final List<Pair<T, R>> toApply = new ArrayList<>();
+        final List<R> added = new ArrayList<>();
+        Objects.requireNonNull(remotes).forEach((id, remote) -> {
+            final Optional<T> local = this.resources.getOrDefault(id, Optional.empty());
+            if (!remote.isPresent()) {
+                this.deleteProjectionFromLocalResourceGroup(this.projections.remove(id));
+                local.filter(r -> !r.isDraftForCreating()).ifPresent(r -> {
+                    r.deleteFromCache();
+                    r.setRemote(null);
+                });
+            } else if (local.isPresent()) {
+                toApply.add(Pair.of(local.get(), remote.get()));
+            } else {
+                added.add(remote.get());
+            }
+        });
+        toApply.addAll(this.addProjections(this.project(added).values().stream()));
+        this.applyRemotes(toApply);
+    }
+
+    @Nullable
+    private R loadChangedResourceIndividually(@Nonnull ResourceChangeFeed.ResourceChange change) {
+        LOADING_CHANGES.set(true);
+        try {
+            return this.loadChangedResource(change);
+        } finally {
+            LOADING_CHANGES.remove();
+        }
+    }
+
+    @Nullable
+    private R loadChangedResource(@Nonnull ResourceChangeFeed.ResourceChange change) {
+        if (change.getChangeType() == ResourceChangeFeed.ChangeType.DELETE) {
+            return null;
+        }
+        final ResourceId id = ResourceId.fromString(change.getResourceId());
+        try {
+            final R remote = this.loadResourceFromAzure(id.name(), id.resourceGroupName());
+            return Objects.nonNull(remote) && this.isListed(remote) ? remote : null;
+        } catch (final Exception e) {
+            if (isNotFoundException(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return feed to sync this module incrementally, or null if this module should always be reloaded fully.
+     * by default, Resource Graph is used for modules of top level resources if enabled by {@link com.microsoft.azure.toolkit.lib.AzureConfiguration#isResourceChangeFeedEnabled()}.
+     */
+    @Nullable
+    protected ResourceChangeFeed getChangeFeed() {
+        if (Objects.nonNull(this.changeFeed)) {
+            return this.changeFeed;
+        }
+        final boolean enabled = Azure.az().config().isResourceChangeFeedEnabled();
+        return enabled && this.parent instanceof AbstractAzServiceSubscription ? ResourceGraphChangeFeed.getInstance() : null;
     }
 
     private void reloadResources() {
         log.debug("[{}]:reloadResources()", this.name);
         this.syncTimeRef.set(0);
+        final long start = System.currentTimeMillis();
         try {
             log.debug("[{}]:reloadResources->loadResourcePagesFromAzure()", this.name);
             this.pages = this.loadResourcePagesFromAzure();
             final ContinuablePage<String, R> page = pages.hasNext() ? pages.next() : new ItemPage<>(Collections.emptyList());
-            final Map<String, R> loadedResources = page.getElements().stream()
-                .collect(Collectors.toMap(r -> this.newResource(r).getId().toLowerCase(), r -> r));
+            final Map<String, Projection> loadedResources = this.project(this.filterListed(page.getElements()));
             log.debug("[{}]:reloadResources->setResources(xxx)", this.name);
             this.setResources(loadedResources);
+            this.changeCursor.set(start);
         } catch (final Exception e) {
             log.debug("[{}]:reloadResources->setResources([])", this.name);
             if (isNotFoundException(e)) {
@@ -156,6 +343,8 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
             } else {
                 log.debug("[{}]:reloadResources->loadResourcePagesFromAzure()=EXCEPTION", this.name, e);
                 this.resources.clear();
+                this.projections.clear();
+                this.changeCursor.set(-1);
                 this.syncTimeRef.compareAndSet(0, System.currentTimeMillis());
                 throw e;
             }
@@ -170,8 +359,7 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
                 this.reloadResources();
             } else if (this.pages.hasNext()) {
                 final ContinuablePage<String, R> page = this.pages.next();
-                final Map<String, R> loadedResources = page.getElements().stream()
-                    .collect(Collectors.toMap(r -> this.newResource(r).getId().toLowerCase(), r -> r));
+                final Map<String, Projection> loadedResources = this.project(this.filterListed(page.getElements()));
                 log.debug("[{}]:loadMoreResources->addResources(xxx)", this.name);
                 this.addResources(loadedResources);
                 fireEvents.debounce();
@@ -185,10 +373,21 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         return Objects.nonNull(this.pages) && this.pages.hasNext();
     }
 
-    private void setResources(Map<String, R> loadedResources) {
-        final Set<String> localResources = this.resources.values().stream().filter(Optional::isPresent).map(Optional::get)
+    private void setResources(Map<String, Projection> loadedResources) {
+        this.mergeResources(loadedResources, null);
+        this.syncTimeRef.set(System.currentTimeMillis());
+    }
+
+    /**
+     * merge loaded resources into cache, resources out of {@code resourceGroup} (if specified) are kept intact.
+     */
+    private void mergeResources(Map<String, Projection> loadedResources, @Nullable String resourceGroup) {
+        final List<T> inScope = this.resources.values().stream().filter(Optional::isPresent).map(Optional::get)
+            .filter(r -> Objects.isNull(resourceGroup) || StringUtils.equalsIgnoreCase(r.getResourceGroupName(), resourceGroup))
+            .collect(Collectors.toList());
+        final Set<String> localResources = inScope.stream()
             .map(AbstractAzResource::getId).map(String::toLowerCase).collect(Collectors.toSet());
-        final Set<String> creating = this.resources.values().stream().filter(Optional::isPresent).map(Optional::get)
+        final Set<String> creating = inScope.stream()
             .filter(AbstractAzResource::isDraftForCreating)
             .map(AbstractAzResource::getId).map(String::toLowerCase).collect(Collectors.toSet());
         log.debug("[{}]:reload().creating={}", this.name, creating);
@@ -204,33 +403,192 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
             r.setRemote(null);
         }));
 
-        final AzureTaskManager m = AzureTaskManager.getInstance();
+        final List<Pair<T, R>> toApply = new ArrayList<>();
         log.debug("[{}]:reload.refreshed->resource.setRemote", this.name);
-        refreshed.forEach(id -> this.resources.getOrDefault(id, Optional.empty()).ifPresent(r -> m.runOnPooledThread(() -> r.setRemote(loadedResources.get(id)))));
+        refreshed.forEach(id -> this.resources.getOrDefault(id, Optional.empty()).ifPresent(r -> toApply.add(Pair.of(r, loadedResources.get(id).remote))));
         log.debug("[{}]:reload.added->addResourceToLocal", this.name);
-        added.stream().map(loadedResources::get).map(r -> Pair.of(r, this.newResource(r)))
-            .sorted(Comparator.comparing(p -> p.getValue().getName())) // sort by name when adding into cache
-            .forEach(p -> {
-                final R remote = p.getKey();
-                final T resource = p.getValue();
-                m.runOnPooledThread(() -> resource.setRemote(remote));
-                this.addResourceToLocal(resource.getId(), resource, true);
-            });
+        // unmaterialized resources not listed anymore are simply dropped.
+        final List<Projection> dropped;
+        synchronized (this.projections) {
+            dropped = this.projections.values().stream()
+                .filter(p -> Objects.isNull(resourceGroup) || StringUtils.equalsIgnoreCase(p.getResourceGroupName(), resourceGroup))
+                .filter(p -> !loadedResources.containsKey(p.id)).collect(Collectors.toList());
+            this.projections.values().removeIf(p -> Objects.isNull(resourceGroup) || StringUtils.equalsIgnoreCase(p.getResourceGroupName(), resourceGroup));
+        }
+        dropped.forEach(this::deleteProjectionFromLocalResourceGroup);
+        toApply.addAll(this.addProjections(added.stream().map(loadedResources::get)));
+        this.applyRemotes(toApply);
+    }
+
+    private void addResources(Map<String, Projection> loadedResources) {
+        log.debug("[{}]:reload().added={}", this.name, loadedResources.keySet());
+        this.applyRemotes(this.addProjections(loadedResources.values().stream().filter(p -> !this.resources.getOrDefault(p.id, Optional.empty()).isPresent())));
         this.syncTimeRef.set(System.currentTimeMillis());
     }
 
-    private void addResources(Map<String, R> loadedResources) {
-        final Set<String> added = loadedResources.keySet();
-        log.debug("[{}]:reload().added={}", this.name, added);
-        loadedResources.values().stream().map(r -> Pair.of(r, this.newResource(r)))
-            .sorted(Comparator.comparing(p -> p.getValue().getName())) // sort by name when adding into cache
+    /**
+     * @return resources created when projecting (no summary), whose remotes are still to be applied.
+     */
+    @Nonnull
+    private List<Pair<T, R>> addProjections(@Nonnull Stream<Projection> added) {
+        final List<Pair<T, R>> toApply = new ArrayList<>();
+        added.sorted(Comparator.comparing(Projection::getName)) // sort by name when adding into cache
             .forEach(p -> {
-                final R remote = p.getKey();
-                final T resource = p.getValue();
-                AzureTaskManager.getInstance().runOnPooledThread(() -> resource.setRemote(remote));
-                this.addResourceToLocal(resource.getId(), resource, true);
+                if (Objects.nonNull(p.resource)) { // no summary, the resource has been created when projecting.
+                    this.addResourceToLocal(p.resource.getId(), p.resource, true);
+                    toApply.add(Pair.of(p.resource, p.remote));
+                } else {
+                    this.projections.put(p.id, p);
+                    this.addProjectionToLocalResourceGroup(Objects.requireNonNull(p.summary));
+                }
             });
-        this.syncTimeRef.set(System.currentTimeMillis());
+        return toApply;
+    }
+
+    /**
+     * mirror a listed but not materialized resource into generic resources of its resource group, the same as
+     * {@link #addResourceToLocalResourceGroup} does for materialized ones.
+     */
+    private void addProjectionToLocalResourceGroup(@Nonnull AzResourceSummary summary) {
+        final GenericResourceModule genericResourceModule = this.getGenericResourceModule(summary);
+        if (Objects.nonNull(genericResourceModule)) {
+            genericResourceModule.addResourceToLocal(summary.getId(), genericResourceModule.newResource(summary), true);
+        }
+    }
+
+    private void deleteProjectionFromLocalResourceGroup(@Nullable Projection projection) {
+        final GenericResourceModule genericResourceModule = Optional.ofNullable(projection).map(p -> p.summary).map(this::getGenericResourceModule).orElse(null);
+        if (Objects.nonNull(genericResourceModule)) {
+            genericResourceModule.deleteResourceFromLocal(Objects.requireNonNull(projection.summary).getId(), true);
+        }
+    }
+
+    @Nullable
+    private GenericResourceModule getGenericResourceModule(@Nonnull AzResourceSummary summary) {
+        final String rgName = summary.getResourceGroupName();
+        if (this instanceof ResourceGroupModule || this instanceof ResourceDeploymentModule || this instanceof GenericResourceModule ||
+            StringUtils.isBlank(rgName) || StringUtils.equalsIgnoreCase(rgName, RESOURCE_GROUP_PLACEHOLDER) ||
+            Objects.nonNull(ResourceId.fromString(summary.getId()).parent())) {
+            return null;
+        }
+        final ResourceGroup resourceGroup = Azure.az(AzureResources.class).groups(this.getSubscriptionId()).get(rgName, rgName);
+        return Objects.isNull(resourceGroup) ? null : resourceGroup.genericResources();
+    }
+
+    /**
+     * apply remotes (and so statuses) to resources in chunks, at most {@link #APPLY_PARALLELISM} chunks at a time, rather
+     * than one task per resource, and fire a single children changed event of this module once all are applied.
+     * chunks run on bounded elastic threads since applying a remote may block on sync calls to Azure.
+     */
+    private void applyRemotes(@Nonnull List<Pair<T, R>> toApply) {
+        if (toApply.isEmpty()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final int chunkSize = Math.max(MIN_APPLY_CHUNK_SIZE, (toApply.size() + APPLY_PARALLELISM - 1) / APPLY_PARALLELISM);
+        Flux.fromIterable(Lists.partition(toApply, chunkSize))
+            .flatMap(chunk -> Mono.fromRunnable(() -> chunk.forEach(this::applyRemote)).subscribeOn(Schedulers.boundedElastic()), APPLY_PARALLELISM)
+            .doFinally(s -> {
+                log.debug("[{}]:applyRemotes({}) done in {}ms", this.name, toApply.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                this.fireEvents.debounce();
+            })
+            .subscribe();
+    }
+
+    private void applyRemote(@Nonnull Pair<T, R> pair) {
+        try {
+            pair.getLeft().setRemote(pair.getRight());
+        } catch (final Throwable t) {
+            log.warn("[{}]:applyRemote({})=EXCEPTION", this.name, pair.getLeft().getName(), t);
+        }
+    }
+
+    @Nonnull
+    private Map<String, Projection> project(@Nonnull Iterable<R> remotes) {
+        final Map<String, Projection> result = new LinkedHashMap<>();
+        for (final R remote : remotes) {
+            final AzResourceSummary summary = this.toSummary(remote);
+            final Projection projection = Objects.nonNull(summary) ? new Projection(remote, summary) : new Projection(remote, this.newResource(remote));
+            result.put(projection.id, projection);
+        }
+        return result;
+    }
+
+    /**
+     * @return summary of {@code remote} derived without creating a resource, or null if it can't be derived cheaply,
+     * in which case the resource is created and cached right away.
+     */
+    @Nullable
+    protected AzResourceSummary toSummary(@Nonnull R remote) {
+        if (!(remote instanceof HasId) || !(remote instanceof HasName)) {
+            return null;
+        }
+        final String id = ((HasId) remote).id();
+        final String name = ((HasName) remote).name();
+        if (StringUtils.isAnyBlank(id, name)) {
+            return null;
+        }
+        try {
+            final String resourceGroup = ResourceId.fromString(id).resourceGroupName();
+            // the id must be the same as the one of the resource to be materialized, otherwise it can't be found by `get`.
+            if (!StringUtils.equalsIgnoreCase(this.toResourceId(name, resourceGroup), id)) {
+                return null;
+            }
+            final String status = StringUtils.defaultIfBlank(this.loadSummaryStatus(remote), AzResource.Status.UNKNOWN);
+            return new AzResourceSummary(id, name, resourceGroup, this.getFullResourceType(), status);
+        } catch (final RuntimeException e) {
+            log.debug("[{}]:toSummary({})=EXCEPTION", this.name, id, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return status of the listed {@code remote} for its summary, should be overridden if the status can be derived from
+     * the remote without any request, the same as {@link AbstractAzResource#loadStatus} does.
+     */
+    @Nullable
+    protected String loadSummaryStatus(@Nonnull R remote) {
+        return AzResource.Status.UNKNOWN;
+    }
+
+    @Nonnull
+    private AzResourceSummary toSummary(@Nonnull T resource) {
+        return new AzResourceSummary(resource.getId(), resource.getName(), resource.getResourceGroupName(), this.getFullResourceType(), resource.getCachedStatus());
+    }
+
+    /**
+     * materialize the listed resource of {@code id} if it's not materialized yet.
+     */
+    private void materialize(@Nonnull String id) {
+        final T resource;
+        final Projection projection;
+        synchronized (this.projections) {
+            projection = this.projections.remove(id);
+            if (Objects.isNull(projection)) {
+                return;
+            }
+            resource = this.newResource(projection.remote);
+            this.addResourceToLocal(id, resource, true);
+        }
+        resource.setRemote(projection.remote);
+    }
+
+    private void materializeAll(@Nonnull Predicate<Projection> filter) {
+        final List<Pair<T, R>> materialized = new ArrayList<>();
+        synchronized (this.projections) {
+            if (this.projections.isEmpty()) {
+                return;
+            }
+            final List<Projection> listed = this.projections.values().stream().filter(filter).collect(Collectors.toList());
+            listed.forEach(p -> this.projections.remove(p.id));
+            listed.forEach(p -> {
+                final T resource = this.newResource(p.remote);
+                this.addResourceToLocal(p.id, resource, true);
+                materialized.add(Pair.of(resource, p.remote));
+            });
+        }
+        log.debug("[{}]:materializeAll()={}", this.name, materialized.size());
+        this.applyRemotes(materialized);
     }
 
     public void clear() {
@@ -238,6 +596,9 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         try {
             this.lock.lock();
             this.resources.clear();
+            this.projections.clear();
+            this.groupSyncTimes.clear();
+            this.changeCursor.set(-1);
             this.syncTimeRef.set(-1);
         } finally {
             this.lock.unlock();
@@ -257,6 +618,7 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
             Azure.az(IAzureAccount.class).account();
         }
         final String id = this.toResourceId(name, resourceGroup).toLowerCase();
+        this.materialize(id);
         if (!this.resources.containsKey(id)) {
             R remote = null;
             try {
@@ -327,6 +689,7 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         final String resourceGroup = normalizeResourceGroupName(name, rgName);
         log.debug("[{}]:getOrTemp({}, {})", this.name, name, rgName);
         final String id = this.toResourceId(name, resourceGroup).toLowerCase();
+        this.materialize(id);
         return this.resources.getOrDefault(id, Optional.empty()).orElseGet(() -> this.newResource(name, resourceGroup));
     }
 
@@ -335,6 +698,7 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         final String resourceGroup = normalizeResourceGroupName(name, rgName);
         log.debug("[{}]:getOrDraft({}, {})", this.name, name, rgName);
         final String id = this.toResourceId(name, resourceGroup).toLowerCase();
+        this.materialize(id);
         return this.resources.getOrDefault(id, Optional.empty()).orElseGet(() -> {
             final T resource = this.newResource(name, resourceGroup);
             log.debug("[{}]:get({}, {})->addResourceToLocal({}, resource)", this.name, id, resourceGroup, name);
@@ -343,6 +707,9 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         });
     }
 
+    /**
+     * @return materialized resources in cache, listed but not materialized ones are excluded.
+     */
     @Nonnull
     public List<T> listCachedResources() { // getResources
         return this.resources.values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
@@ -351,7 +718,93 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
     @Nonnull
     public List<T> listByResourceGroup(@Nonnull String resourceGroup) {
         log.debug("[{}]:listByResourceGroupName({})", this.name, resourceGroup);
-        return this.list().stream().filter(r -> r.getResourceGroupName().equalsIgnoreCase(resourceGroup)).collect(Collectors.toList());
+        return this.listByResourceGroups(Collections.singletonList(resourceGroup));
+    }
+
+    /**
+     * list resources in the given resource groups. if {@link #isListingByResourceGroupSupported() supported}, groups
+     * not synced yet are loaded concurrently from Azure and merged into cache (each group has its own sync time),
+     * without loading the whole module or invalidating other groups. otherwise, it falls back to filtering {@link #list()}.
+     */
+    @Nonnull
+    public List<T> listByResourceGroups(@Nonnull Collection<String> resourceGroups) {
+        log.debug("[{}]:listByResourceGroups({})", this.name, resourceGroups);
+        final Set<String> groups = resourceGroups.stream().map(String::toLowerCase).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (this.syncTimeRef.get() > 0 || !this.isListingByResourceGroupSupported()) {
+            return this.list().stream().filter(r -> groups.contains(r.getResourceGroupName().toLowerCase())).collect(Collectors.toList());
+        }
+        if (isAuthRequired()) {
+            Azure.az(IAzureAccount.class).account();
+        }
+        if (this.parent instanceof AbstractAzResource && ((AbstractAzResource<?, ?, ?>) this.parent).isDraftForCreating()) {
+            log.debug("[{}]:listByResourceGroups->parent.isDraftForCreating()=true", this.name);
+            return Collections.emptyList();
+        }
+        final List<String> stale = groups.stream().filter(g -> this.groupSyncTimes.getOrDefault(g, -1L) < 1).collect(Collectors.toList());
+        if (!stale.isEmpty()) {
+            log.debug("[{}]:listByResourceGroups->loadResourcesInGroupFromAzure({})", this.name, stale);
+            final List<Pair<String, List<R>>> loaded = Flux.fromIterable(stale)
+                .flatMap(g -> Mono.fromCallable(() -> Pair.of(g, this.loadResourcesInGroup(g))).subscribeOn(Schedulers.boundedElastic()), MAX_CONCURRENT_GROUP_LOADS)
+                .collectList().block();
+            try {
+                this.lock.lock();
+                Objects.requireNonNull(loaded).forEach(p -> {
+                    this.mergeResources(this.project(p.getRight()), p.getLeft());
+                    this.groupSyncTimes.put(p.getLeft(), System.currentTimeMillis());
+                });
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        this.materializeAll(p -> groups.contains(StringUtils.lowerCase(p.getResourceGroupName())));
+        return this.listCachedResources().stream().filter(r -> groups.contains(r.getResourceGroupName().toLowerCase())).collect(Collectors.toList());
+    }
+
+    @Nonnull
+    private List<R> loadResourcesInGroup(@Nonnull String resourceGroup) {
+        try {
+            return this.filterListed(this.loadResourcesInGroupFromAzure(resourceGroup));
+        } catch (final Exception e) {
+            if (isNotFoundException(e)) {
+                log.debug("[{}]:loadResourcesInGroup({})=SC_NOT_FOUND", this.name, resourceGroup, e);
+                return Collections.emptyList();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if resources can be listed per resource group by {@link #loadResourcesInGroupFromAzure}, by default
+     * only for modules of top level resources (whose parent is a subscription) if the client supports it.
+     */
+    protected boolean isListingByResourceGroupSupported() {
+        if (!(this.parent instanceof AbstractAzServiceSubscription)) {
+            return false;
+        }
+        try {
+            return this.getClient() instanceof SupportsListingByResourceGroup;
+        } catch (final AzureToolkitRuntimeException e) { // client is not implemented.
+            return false;
+        }
+    }
+
+    @Nonnull
+    private List<R> filterListed(@Nonnull Iterable<R> remotes) {
+        final List<R> result = new ArrayList<>();
+        remotes.forEach(r -> {
+            if (this.isListed(r)) {
+                result.add(r);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return false if {@code remote} loaded by listing from Azure should not be cached as a resource of this module,
+     * applied to full, resource group scoped and incremental (by changes) listing.
+     */
+    protected boolean isListed(@Nonnull R remote) {
+        return true;
     }
 
     @Nonnull
@@ -440,6 +893,7 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         log.debug("[{}]:deleteResourceFromLocal({})", this.name, id);
         log.debug("[{}]:deleteResourceFromLocal->this.resources.remove({})", this.name, id);
         id = id.toLowerCase();
+        this.deleteProjectionFromLocalResourceGroup(this.projections.remove(id));
         final Optional<T> removed = this.resources.remove(id);
         if (Objects.nonNull(removed) && removed.isPresent()) {
             this.deleteResourceFromLocalResourceGroup(removed.get(), silent);
@@ -468,6 +922,9 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         if (!oldResource.isPresent()) {
             log.debug("[{}]:addResourceToLocal->this.resources.put({}, {})", this.name, id, resource);
             this.resources.put(id, newResource);
+            if (newResource.isPresent()) {
+                this.projections.remove(id);
+            }
             if (newResource.isPresent()) {
                 this.addResourceToLocalResourceGroup(id, resource, silent);
                 if (silent.length == 0 || !silent[0]) {
@@ -518,6 +975,19 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         }
     }
 
+    @Nonnull
+    @AzureOperation(name = "azure/resource.load_resources_in_group.rg|type", params = {"resourceGroup", "this.getResourceTypeName()"})
+    protected List<R> loadResourcesInGroupFromAzure(@Nonnull String resourceGroup) {
+        log.debug("[{}]:loadResourcesInGroupFromAzure({})", this.getName(), resourceGroup);
+        final Object client = this.getClient();
+        if (client instanceof SupportsListingByResourceGroup) {
+            log.debug("[{}]:loadResourcesInGroupFromAzure->client.listByResourceGroup({})", this.name, resourceGroup);
+            return this.<SupportsListingByResourceGroup<R>>cast(client).listByResourceGroup(resourceGroup).stream().collect(Collectors.toList());
+        }
+        log.debug("[{}]:loadResourcesInGroupFromAzure->NOT Supported", this.name);
+        throw new AzureToolkitRuntimeException("not supported");
+    }
+
     @Nullable
     @AzureOperation(name = "azure/resource.load_resource.resource|type", params = {"name", "this.getResourceTypeName()"})
     protected R loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
@@ -534,9 +1004,16 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
         } else if (client instanceof SupportsGettingByName) {
             log.debug("[{}]:loadResourceFromAzure->client.getByName({})", this.name, name);
             return this.<SupportsGettingByName<R>>cast(client).getByName(name);
-        } else { // fallback to filter the named resource from all resources in current module.
-            log.debug("[{}]:loadResourceFromAzure->this.list().filter({}).getRemote()", this.name, name);
-            return this.list().stream().filter(r -> StringUtils.equals(name, r.getName())).findAny().map(AbstractAzResource::getRemote).orElse(null);
+        } else if (LOADING_CHANGES.get()) { // the module is locked by the sync applying changes, reload it fully instead.
+            throw new UnsupportedOperationException(String.format("%s can't be loaded individually", this.getResourceTypeName()));
+        } else { // fallback to filter the named resource from summaries of all resources in current module.
+            log.debug("[{}]:loadResourceFromAzure->this.listSummaries().filter({}).getRemote()", this.name, name);
+            return this.listSummaries().stream().filter(s -> StringUtils.equals(name, s.getName())).findAny()
+                .flatMap(s -> {
+                    final String id = s.getId().toLowerCase();
+                    this.materialize(id);
+                    return this.resources.getOrDefault(id, Optional.empty());
+                }).map(AbstractAzResource::getRemote).orElse(null);
         }
     }
 
@@ -616,4 +1093,40 @@ public abstract class AbstractAzResourceModule<T extends AbstractAzResource<T, P
     protected boolean isAuthRequired() {
         return true;
     }
+
+    /**
+     * a listed remote, either with its summary (to be materialized on access) or with its resource if no summary can be derived.
+     */
+    private class Projection {
+        private final String id;
+        private final R remote;
+        @Nullable
+        private final AzResourceSummary summary;
+        @Nullable
+        private final T resource;
+
+        Projection(@Nonnull R remote, @Nonnull AzResourceSummary summary) {
+            this.id = summary.getId().toLowerCase();
+            this.remote = remote;
+            this.summary = summary;
+            this.resource = null;
+        }
+
+        Projection(@Nonnull R remote, @Nonnull T resource) {
+            this.id = resource.getId().toLowerCase();
+            this.remote = remote;
+            this.summary = null;
+            this.resource = resource;
+        }
+
+        @Nullable
+        String getResourceGroupName() {
+            return Objects.nonNull(this.resource) ? this.resource.getResourceGroupName() : Objects.requireNonNull(this.summary).getResourceGroupName();
+        }
+
+        @Nonnull
+        String getName() {
+            return Objects.nonNull(this.resource) ? this.resource.getName() : Objects.requireNonNull(this.summary).getName();
+        }
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * immutable projection of a listed resource, cheap enough to be kept for every item of a bulk listing.
+ * the full resource is only created when it's accessed through the module, e.g. {@link AbstractAzResourceModule#get(String, String)}.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AzResourceSummary {
+    @Nonnull
+    @EqualsAndHashCode.Include
+    private final String id;
+    @Nonnull
+    private final String name;
+    @Nullable
+    private final String resourceGroupName;
+    @Nonnull
+    private final String resourceType;
+    /**
+     * status of the resource if it's materialized, otherwise derived from the listed remote by
+     * {@link AbstractAzResourceModule#loadSummaryStatus}, {@link AzResource.Status#UNKNOWN} if it can't be derived.
+     */
+    @Nonnull
+    private final String status;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * source of resource changes, used by {@link AbstractAzResourceModule} to sync its cache incrementally instead of
+ * reloading all resources. see {@link com.microsoft.azure.toolkit.lib.resource.ResourceGraphChangeFeed}.
+ */
+public interface ResourceChangeFeed {
+    /**
+     * @param resourceType full resource type, e.g. {@code Microsoft.Web/sites}
+     * @return changes of resources of {@code resourceType} since {@code since} ordered by change time,
+     * or null if changes since {@code since} are not available, in which case the module is reloaded fully.
+     */
+    @Nullable
+    List<ResourceChange> query(@Nonnull String subscriptionId, @Nonnull String resourceType, @Nonnull OffsetDateTime since);
+
+    /**
+     * @return how long changes are kept by the feed, modules not synced within it are reloaded fully.
+     */
+    @Nonnull
+    default Duration getRetention() {
+        return Duration.ofDays(7);
+    }
+
+    enum ChangeType {
+        CREATE, UPDATE, DELETE
+    }
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    class ResourceChange {
+        @Nonnull
+        private final String resourceId;
+        @Nonnull
+        private final ChangeType changeType;
+        @Nonnull
+        private final OffsetDateTime changedAt;
+    }
+}
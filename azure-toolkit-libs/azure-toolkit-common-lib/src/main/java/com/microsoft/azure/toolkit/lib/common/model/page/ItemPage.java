@@ -10,18 +10,27 @@ import com.azure.core.util.IterableStream;
 import reactor.core.publisher.Flux;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.stream.Stream;
 
 public class ItemPage<T> implements Page<T> {
     private final IterableStream<T> items;
+    @Nullable
+    private final String continuationToken;
 
     public ItemPage(@Nonnull final Iterable<T> items) {
+        this(items, null);
+    }
+
+    public ItemPage(@Nonnull final Iterable<T> items, @Nullable final String continuationToken) {
         this.items = IterableStream.of(items);
+        this.continuationToken = continuationToken;
     }
 
     public ItemPage(@Nonnull final Stream<T> items) {
         this.items = new IterableStream<T>(Flux.fromStream(items));
+        this.continuationToken = null;
     }
 
     public static <T> ItemPage<T> emptyPage() {
@@ -34,7 +43,8 @@ public class ItemPage<T> implements Page<T> {
     }
 
     @Override
+    @Nullable
     public String getContinuationToken() {
-        return null;
+        return this.continuationToken;
     }
 }
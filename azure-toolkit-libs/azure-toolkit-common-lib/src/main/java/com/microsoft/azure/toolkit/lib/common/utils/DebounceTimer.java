@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * single hashed-wheel timer shared by all {@link TailingDebouncer}s. only the worker thread touches the wheel,
+ * new timers are handed over through a lock-free queue, and the worker parks when there is no pending timer.
+ */
+@Slf4j
+public final class DebounceTimer {
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WHEEL_SIZE = 512; // 5.12s per round, longer timers are re-checked every round.
+    private static final DebounceTimer instance = new DebounceTimer();
+
+    @SuppressWarnings("unchecked")
+    private final Queue<TailingDebouncer>[] wheel = new Queue[WHEEL_SIZE];
+    private final Queue<Timeout> inserts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong fired = new AtomicLong();
+    private final long start = System.nanoTime();
+    private final Thread worker;
+    private long tick;
+
+    private DebounceTimer() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.wheel[i] = new ArrayDeque<>();
+        }
+        this.worker = new Thread(this::run, "azure-toolkit-debounce-timer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Nonnull
+    public static DebounceTimer getInstance() {
+        return instance;
+    }
+
+    /**
+     * @return number of timers waiting to expire.
+     */
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * @return number of timers expired and fired since startup.
+     */
+    public long getFiredCount() {
+        return this.fired.get();
+    }
+
+    void schedule(@Nonnull TailingDebouncer debouncer, long deadline) {
+        this.inserts.offer(new Timeout(debouncer, deadline));
+        if (this.pending.getAndIncrement() == 0) {
+            LockSupport.unpark(this.worker);
+        }
+    }
+
+    void onFired() {
+        this.fired.incrementAndGet();
+    }
+
+    private void run() {
+        //noinspection InfiniteLoopStatement
+        while (true) {
+            try {
+                if (this.pending.get() == 0) {
+                    LockSupport.park(this);
+                    this.tick = (System.nanoTime() - this.start) / TICK; // skip ticks passed while parking
+                }
+                this.waitForNextTick();
+                this.transferInserts();
+                final Queue<TailingDebouncer> bucket = this.wheel[(int) (this.tick % WHEEL_SIZE)];
+                final long now = System.nanoTime();
+                for (int i = bucket.size(); i > 0; i--) {
+                    final TailingDebouncer debouncer = bucket.poll();
+                    this.pending.decrementAndGet();
+                    try {
+                        debouncer.expire(now);
+                    } catch (final Throwable t) {
+                        log.warn("error occurs when expiring debounce timer.", t);
+                    }
+                }
+            } catch (final Throwable t) {
+                log.warn("error occurs in debounce timer.", t);
+            }
+        }
+    }
+
+    private void waitForNextTick() {
+        this.tick++;
+        final long deadline = this.start + this.tick * TICK;
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void transferInserts() {
+        for (Timeout t = this.inserts.poll(); t != null; t = this.inserts.poll()) {
+            final long ticks = Math.max(this.tick, (t.deadline - this.start + TICK - 1) / TICK);
+            this.wheel[(int) (ticks % WHEEL_SIZE)].offer(t.debouncer);
+        }
+    }
+
+    private static class Timeout {
+        private final TailingDebouncer debouncer;
+        private final long deadline;
+
+        Timeout(@Nonnull TailingDebouncer debouncer, long deadline) {
+            this.debouncer = debouncer;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -5,25 +5,74 @@
 
 package com.microsoft.azure.toolkit.lib.common.utils;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nullable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+@Slf4j
 public class InstallationIdUtils {
 
     private static final Pattern HASHED_MAC_PATTERN = Pattern.compile("[0-9a-f]{64}");
     // Hashed mac address for iBridge device
     private static final String INVALID_HASHED_MAC_ADDRESS = "6c9d2bc8f91b89624add29c0abeae7fb42bf539fa1cdb2e3e57cd668fa9bcead";
+    private static final Path INSTALLATION_ID_PATH = Paths.get(System.getProperty("user.home"), ".azure", "azure-toolkit-installation-id");
+    private static final Mono<String> installationId = Mono.fromCallable(InstallationIdUtils::loadOrComputeInstallationId)
+        .subscribeOn(Schedulers.boundedElastic()).cache();
 
     public static boolean isValidHashMac(String hashMac) {
         return isValidHash(hashMac) && !isDepreciatedHashMac(hashMac);
     }
 
+    /**
+     * start resolving installation id in background, so that {@link #getInstallationId()} needn't wait later.
+     */
+    public static void prefetchInstallationId() {
+        installationId.subscribe();
+    }
+
+    /**
+     * @return hashed mac address, resolved only once per jvm and persisted in user's config directory.
+     */
+    @Nullable
+    public static String getInstallationId() {
+        return installationId.blockOptional().orElse(null);
+    }
+
+    @Nullable
+    private static String loadOrComputeInstallationId() {
+        try {
+            if (Files.isRegularFile(INSTALLATION_ID_PATH)) {
+                final String persisted = StringUtils.trim(new String(Files.readAllBytes(INSTALLATION_ID_PATH), StandardCharsets.UTF_8));
+                if (isValidHashMac(persisted)) {
+                    return persisted;
+                }
+            }
+        } catch (final Exception e) {
+            log.debug("failed to load installation id from {}.", INSTALLATION_ID_PATH, e);
+        }
+        final String hashMac = getHashMac();
+        if (isValidHashMac(hashMac)) {
+            try {
+                Files.createDirectories(INSTALLATION_ID_PATH.getParent());
+                Files.write(INSTALLATION_ID_PATH, hashMac.getBytes(StandardCharsets.UTF_8));
+            } catch (final Exception e) {
+                log.debug("failed to persist installation id to {}.", INSTALLATION_ID_PATH, e);
+            }
+        }
+        return hashMac;
+    }
+
     @Nullable
     public static String getHashMac() {
         String mac = NetUtils.getMac();
@@ -12,12 +12,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -33,36 +30,13 @@ public class NetUtils {
     private static final String[] INVALID_MAC_ADDRESS = {"00:00:00:00:00:00", "ff:ff:ff:ff:ff:ff", "ac:de:48:00:11:22"};
     private static final String[] UNIX_COMMAND = {"/sbin/ifconfig -a || /sbin/ip link"};
     private static final String[] WINDOWS_COMMAND = {"getmac"};
-    private static final String[] PUBLIC_IP_URLS = {"http://whatismyip.akamai.com", "http://bot.whatismyipaddress.com", "https://ipecho.net/plain"};
+    private static volatile String mac;
 
+    /**
+     * @see PublicIpResolver#resolve
+     */
     public static String getPublicIp() {
-        String ip = StringUtils.EMPTY;
-        for (String urlString : PUBLIC_IP_URLS) {
-            ip = getPublicIp(urlString);
-            if (StringUtils.isNotBlank(ip)) {
-                return ip;
-            }
-        }
-        return ip;
-    }
-
-    private static String getPublicIp(String urlString) {
-        String ip = StringUtils.EMPTY;
-        try {
-            final URL url = new URL(urlString);
-            final HttpURLConnection urlConnection = (HttpURLConnection) url.openConnection();
-            BufferedReader in = new BufferedReader(new InputStreamReader(urlConnection.getInputStream(), StandardCharsets.UTF_8));
-            while ((ip = in.readLine()) != null) {
-                if (StringUtils.isNotBlank(ip)) {
-                    final String trimIp = StringUtils.trim(ip);
-                    if (INTACT_IPADDRESS_PATTERN.matcher(trimIp).find()) {
-                        break;
-                    }
-                }
-            }
-        } catch (IOException e) {
-        }
-        return ip;
+        return PublicIpResolver.getInstance().resolve();
     }
 
     public static String getHostName() {
@@ -84,12 +58,26 @@ public class NetUtils {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * @return mac address of local machine, resolved only once per jvm. ifconfig/getmac is tried before enumerating
+     * network interfaces, which may pick another interface or format, so that the mac identifying the machine (e.g. in
+     * installation id and firewall rule names) doesn't change.
+     */
     public static String getMac() {
-        final String commandMac = getMacByCommand();
-        if (StringUtils.isNotBlank(commandMac)) {
-            return commandMac;
+        String result = mac;
+        if (result == null) {
+            synchronized (NetUtils.class) {
+                result = mac;
+                if (result == null) {
+                    result = getMacByCommand();
+                    if (StringUtils.isBlank(result)) {
+                        result = getMacByNetworkInterface();
+                    }
+                    mac = result;
+                }
+            }
         }
-        return getMacByNetworkInterface();
+        return result;
     }
 
     private static String getMacByCommand() {
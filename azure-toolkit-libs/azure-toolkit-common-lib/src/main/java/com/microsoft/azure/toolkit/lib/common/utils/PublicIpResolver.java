@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * resolves public ip of local machine by racing all strategies (public ip echo urls and caller provided ones,
+ * e.g. parsing the error of a connection refused by a database server) concurrently, the first valid ip wins.
+ * results are cached per session and set of active network interfaces.
+ */
+@Slf4j
+public class PublicIpResolver {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    private static final List<String> PUBLIC_IP_URLS = Arrays.asList("http://whatismyip.akamai.com", "http://bot.whatismyipaddress.com", "https://ipecho.net/plain");
+    private static final PublicIpResolver instance = new PublicIpResolver(PUBLIC_IP_URLS, DEFAULT_TIMEOUT);
+
+    @Getter
+    @Nonnull
+    private final List<String> urls;
+    /**
+     * connect/read timeout of every url, and the max time to wait for all strategies.
+     */
+    @Getter
+    @Nonnull
+    private final Duration timeout;
+    private final Map<String, String> resolved = new ConcurrentHashMap<>();
+    private final AtomicLong resolutions = new AtomicLong();
+
+    public PublicIpResolver(@Nonnull List<String> urls, @Nonnull Duration timeout) {
+        this.urls = Collections.unmodifiableList(new ArrayList<>(urls));
+        this.timeout = timeout;
+    }
+
+    @Nonnull
+    public static PublicIpResolver getInstance() {
+        return instance;
+    }
+
+    /**
+     * @param strategies additional strategies raced with the public ip urls, blank/invalid results and errors are ignored.
+     * @return public ip of local machine or empty if no strategy succeeds in {@link #getTimeout() timeout}.
+     */
+    @Nonnull
+    @SafeVarargs
+    public final String resolve(@Nonnull Callable<String>... strategies) {
+        final String key = getNetworkInterfacesKey();
+        final String cached = this.resolved.get(key);
+        if (StringUtils.isNotBlank(cached)) {
+            return cached;
+        }
+        final String ip = this.race(strategies);
+        if (StringUtils.isNotBlank(ip)) {
+            this.resolved.put(key, ip);
+        }
+        return ip;
+    }
+
+    public void invalidate() {
+        this.resolved.clear();
+    }
+
+    /**
+     * @return times the strategies are raced, i.e. cache misses.
+     */
+    public long getResolutionCount() {
+        return this.resolutions.get();
+    }
+
+    @Nonnull
+    private String race(@Nonnull Callable<String>[] strategies) {
+        this.resolutions.incrementAndGet();
+        final List<Mono<String>> candidates = new ArrayList<>();
+        Arrays.stream(strategies).map(PublicIpResolver::toCandidate).forEach(candidates::add);
+        this.urls.stream().map(url -> toCandidate(() -> this.requestPublicIp(url))).forEach(candidates::add);
+        if (candidates.isEmpty()) {
+            return StringUtils.EMPTY;
+        }
+        return Mono.firstWithValue(candidates)
+            .timeout(this.timeout)
+            .onErrorResume(e -> {
+                log.debug("failed to resolve public ip in {}.", this.timeout, e);
+                return Mono.empty();
+            })
+            .blockOptional()
+            .orElse(StringUtils.EMPTY);
+    }
+
+    @Nonnull
+    private static Mono<String> toCandidate(@Nonnull Callable<String> strategy) {
+        return Mono.fromCallable(strategy)
+            .map(StringUtils::trim)
+            .filter(ip -> NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find())
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private String requestPublicIp(@Nonnull String urlString) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(urlString).openConnection();
+        connection.setConnectTimeout((int) this.timeout.toMillis());
+        connection.setReadTimeout((int) this.timeout.toMillis());
+        try (final BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                final String ip = StringUtils.trim(line);
+                if (NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find()) {
+                    return ip;
+                }
+            }
+            return null;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * public ip may change only if local machine switches network, e.g. connects to vpn or another wifi.
+     */
+    @Nonnull
+    private static String getNetworkInterfacesKey() {
+        try {
+            final List<NetworkInterface> interfaces = Collections.list(NetworkInterface.getNetworkInterfaces());
+            final List<String> keys = new ArrayList<>();
+            for (final NetworkInterface i : interfaces) {
+                if (i.isUp() && !i.isLoopback()) {
+                    final String addresses = i.getInterfaceAddresses().stream().map(InterfaceAddress::getAddress)
+                        .filter(Objects::nonNull).map(InetAddress::getHostAddress).sorted().collect(Collectors.joining(","));
+                    keys.add(i.getName() + "=" + addresses);
+                }
+            }
+            return keys.stream().sorted().collect(Collectors.joining(";"));
+        } catch (final SocketException | RuntimeException e) {
+            return StringUtils.EMPTY;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * tails a log stream until a {@link #terminalPatterns terminal marker} appears, no log arrives within
+ * {@link #idleTimeout} or {@link #maxDuration} expires. the stream is reconnected on transient drops, recent lines
+ * replayed after reconnecting are skipped, and lines are printed in batches through a bounded buffer.
+ */
+@Getter
+@Setter
+public class StreamingLogTailer {
+    private static final int MAX_RECONNECTS = 3;
+    private static final int RECENT_LINES = 1000;
+    private static final int MAX_BATCH_LINES = 100;
+    private static final Duration MAX_BATCH_DELAY = Duration.ofMillis(200);
+
+    @Nonnull
+    private Duration idleTimeout = Duration.ofSeconds(20);
+    @Nonnull
+    private Duration maxDuration = Duration.ofMinutes(1);
+    @Nonnull
+    private List<Pattern> terminalPatterns = Collections.emptyList();
+    /**
+     * max lines buffered when printer can't keep up, oldest lines are dropped when it's full.
+     */
+    private int bufferSize = 1000;
+
+    /**
+     * @param logs    opens the log stream, called again to reconnect.
+     * @param printer prints a batch of lines joined by line separator.
+     * @return count of lines dropped because printer can't keep up.
+     */
+    public long tail(@Nonnull Supplier<Flux<String>> logs, @Nonnull Consumer<String> printer) {
+        final AtomicLong dropped = new AtomicLong();
+        final Set<String> recentLines = new LinkedHashSet<>();
+        Flux.defer(() -> {
+                final boolean reconnected = !recentLines.isEmpty();
+                return logs.get().filter(line -> isNewLine(recentLines, line, reconnected));
+            })
+            .repeat(MAX_RECONNECTS) // server may close the stream without error
+            .retryWhen(Retry.backoff(MAX_RECONNECTS, Duration.ofSeconds(1)))
+            .takeUntil(this::isTerminalLine)
+            .timeout(this.idleTimeout)
+            .take(this.maxDuration)
+            .onErrorResume(TimeoutException.class, e -> Flux.empty())
+            .onBackpressureBuffer(this.bufferSize, line -> dropped.incrementAndGet(), BufferOverflowStrategy.DROP_OLDEST)
+            .publishOn(Schedulers.boundedElastic(), MAX_BATCH_LINES)
+            .bufferTimeout(MAX_BATCH_LINES, MAX_BATCH_DELAY)
+            .doOnNext(lines -> printer.accept(String.join(System.lineSeparator(), lines)))
+            .blockLast();
+        return dropped.get();
+    }
+
+    private static boolean isNewLine(@Nonnull Set<String> recentLines, @Nonnull String line, boolean reconnected) {
+        synchronized (recentLines) {
+            if (reconnected && recentLines.contains(line)) {
+                return false;
+            }
+            recentLines.remove(line);
+            recentLines.add(line);
+            if (recentLines.size() > RECENT_LINES) {
+                recentLines.remove(recentLines.iterator().next());
+            }
+            return true;
+        }
+    }
+
+    private boolean isTerminalLine(@Nonnull String line) {
+        return this.terminalPatterns.stream().anyMatch(p -> p.matcher(line).find());
+    }
+}
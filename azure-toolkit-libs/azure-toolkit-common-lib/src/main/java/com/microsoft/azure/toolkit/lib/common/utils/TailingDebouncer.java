@@ -5,47 +5,66 @@
 
 package com.microsoft.azure.toolkit.lib.common.utils;
 
-import rx.Observable;
-import rx.Subscription;
-import rx.schedulers.Schedulers;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * debouncer backed by the shared {@link DebounceTimer}, {@link #debounce()} only moves the deadline forward,
+ * the timer re-files itself to the new deadline when the old one expires.
+ */
 public class TailingDebouncer implements Debouncer {
+    private static final long CANCELLED = Long.MIN_VALUE;
     private final Runnable debounced;
-    private final int delay;
-    private Subscription timer;
+    private final long delay;
+    private final AtomicLong deadline = new AtomicLong(CANCELLED);
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
 
     public TailingDebouncer(final Runnable debounced, final int delayInMillis) {
         this.debounced = debounced;
-        this.delay = delayInMillis;
+        this.delay = TimeUnit.MILLISECONDS.toNanos(delayInMillis);
     }
 
     @Override
-    public synchronized void debounce() {
-        if (this.isPending()) {
-            this.timer.unsubscribe();
+    public void debounce() {
+        final long deadline = System.nanoTime() + this.delay;
+        this.deadline.set(deadline);
+        if (this.scheduled.compareAndSet(false, true)) {
+            DebounceTimer.getInstance().schedule(this, deadline);
         }
-        this.timer = Observable.timer(this.delay, TimeUnit.MILLISECONDS)
-            .subscribeOn(Schedulers.io())
-            .subscribe(ignore -> {
-                this.debounced.run();
-                this.clearTimer();
-            }, (e) -> this.clearTimer());
     }
 
-    public synchronized void cancel() {
-        if (this.isPending()) {
-            this.timer.unsubscribe();
-        }
+    public void cancel() {
+        this.deadline.set(CANCELLED);
     }
 
-    public synchronized boolean isPending() {
-        return Objects.nonNull(this.timer) && !this.timer.isUnsubscribed();
+    public boolean isPending() {
+        return this.scheduled.get() && this.deadline.get() != CANCELLED;
     }
 
-    private synchronized void clearTimer() {
-        this.timer = null;
+    /**
+     * called by {@link DebounceTimer} when the deadline this debouncer was filed with is reached.
+     */
+    void expire(long now) {
+        final long deadline = this.deadline.get();
+        if (deadline != CANCELLED && deadline - now > 0) { // debounced again since filed
+            DebounceTimer.getInstance().schedule(this, deadline);
+            return;
+        }
+        // fails if cancelled, or debounced again right now.
+        final boolean fire = deadline != CANCELLED && this.deadline.compareAndSet(deadline, CANCELLED);
+        this.scheduled.set(false);
+        // a debounce() after the deadline is read can't file this debouncer while it's still marked as scheduled,
+        // so the deadline is read again after unmarking, and re-filed if it's still live.
+        final long next = this.deadline.get();
+        if (next != CANCELLED && this.scheduled.compareAndSet(false, true)) {
+            DebounceTimer.getInstance().schedule(this, next);
+        }
+        if (fire) {
+            DebounceTimer.getInstance().onFired();
+            Schedulers.boundedElastic().schedule(this.debounced);
+        }
     }
 }
@@ -12,6 +12,7 @@ import com.azure.resourcemanager.resources.fluentcore.arm.models.HasId;
 import com.azure.resourcemanager.resources.models.GenericResources;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
+import com.microsoft.azure.toolkit.lib.common.model.AzResourceSummary;
 import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
 
 import javax.annotation.Nonnull;
@@ -40,10 +41,15 @@ public class GenericResourceModule extends
     protected Iterator<? extends ContinuablePage<String, HasId>> loadResourcePagesFromAzure() {
         final GenericResources resources = Objects.requireNonNull(this.getClient());
         return resources.listByResourceGroup(this.parent.getName()).streamByPage(getPageSize())
-            .map(p -> new ItemPage<>(p.getValue().stream().filter(r -> Objects.isNull(ResourceId.fromString(r.id()).parent())).map(a -> (HasId) a)))
+            .map(p -> new ItemPage<>(p.getValue().stream().map(a -> (HasId) a)))
             .iterator();
     }
 
+    @Override
+    protected boolean isListed(@Nonnull HasId remote) {
+        return Objects.isNull(ResourceId.fromString(remote.id()).parent());
+    }
+
     @Nonnull
     @Override
     public String toResourceId(@Nonnull String resourceId, @Nullable String resourceGroup) {
@@ -65,6 +71,14 @@ public class GenericResourceModule extends
         return new GenericResource(concrete, this);
     }
 
+    /**
+     * generic resource of a listed but not materialized concrete resource, the concrete one is resolved on demand.
+     */
+    @Nonnull
+    public GenericResource newResource(@Nonnull AzResourceSummary summary) {
+        return new GenericResource(summary.getId(), this);
+    }
+
     @Nonnull
     @Override
     public String getResourceTypeName() {
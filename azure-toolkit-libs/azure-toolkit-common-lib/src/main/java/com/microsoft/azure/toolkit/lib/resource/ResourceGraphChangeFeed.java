@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.resource;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.resourcemanager.resources.ResourceManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.common.model.AbstractAzServiceSubscription;
+import com.microsoft.azure.toolkit.lib.common.model.ResourceChangeFeed;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ResourceChangeFeed} backed by the {@code resourcechanges} table of Azure Resource Graph.
+ */
+@Slf4j
+public class ResourceGraphChangeFeed implements ResourceChangeFeed {
+    private static final String API_VERSION = "2021-03-01";
+    private static final String QUERY = "resourcechanges" +
+        " | extend changeTime = todatetime(properties.changeAttributes.timestamp)," +
+        " targetResourceId = tostring(properties.targetResourceId)," +
+        " targetResourceType = tostring(properties.targetResourceType)," +
+        " changeType = tostring(properties.changeType)" +
+        " | where changeTime > datetime(%s) and targetResourceType =~ '%s'" +
+        " | project targetResourceId, changeType, changeTime" +
+        " | order by changeTime asc";
+    private static final ResourceGraphChangeFeed instance = new ResourceGraphChangeFeed();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Nonnull
+    public static ResourceGraphChangeFeed getInstance() {
+        return instance;
+    }
+
+    @Nullable
+    @Override
+    @SneakyThrows
+    @AzureOperation(name = "azure/resource.query_resource_changes.type", params = {"resourceType"})
+    public List<ResourceChange> query(@Nonnull String subscriptionId, @Nonnull String resourceType, @Nonnull OffsetDateTime since) {
+        final ResourceManager manager = AbstractAzServiceSubscription.getResourceManager(subscriptionId);
+        final String url = StringUtils.removeEnd(manager.environment().getResourceManagerEndpoint(), "/") +
+            "/providers/Microsoft.ResourceGraph/resources?api-version=" + API_VERSION;
+        final String query = String.format(QUERY, since.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME), resourceType.replace("'", ""));
+        final List<ResourceChange> changes = new ArrayList<>();
+        String skipToken = null;
+        do {
+            final ObjectNode body = this.mapper.createObjectNode().put("query", query);
+            body.putArray("subscriptions").add(subscriptionId);
+            final ObjectNode options = body.putObject("options").put("resultFormat", "objectArray");
+            if (Objects.nonNull(skipToken)) {
+                options.put("$skipToken", skipToken);
+            }
+            final HttpRequest request = new HttpRequest(HttpMethod.POST, url)
+                .setHeader("Content-Type", "application/json")
+                .setBody(this.mapper.writeValueAsString(body));
+            final JsonNode result;
+            try (final HttpResponse response = Objects.requireNonNull(manager.httpPipeline().send(request).block())) {
+                final String content = response.getBodyAsString().block();
+                if (response.getStatusCode() >= 400) {
+                    throw new AzureToolkitRuntimeException(String.format("failed to query resource changes of '%s': %s", resourceType, content));
+                }
+                result = this.mapper.readTree(content);
+            }
+            for (final JsonNode row : result.path("data")) {
+                final ChangeType type = toChangeType(row.path("changeType").asText());
+                final String id = row.path("targetResourceId").asText(null);
+                if (Objects.nonNull(type) && StringUtils.isNotBlank(id)) {
+                    changes.add(new ResourceChange(id, type, OffsetDateTime.parse(row.path("changeTime").asText())));
+                }
+            }
+            skipToken = result.path("$skipToken").asText(null);
+        } while (StringUtils.isNotBlank(skipToken));
+        log.debug("[{}]:query({}, {})={}", subscriptionId, resourceType, since, changes.size());
+        return changes;
+    }
+
+    /**
+     * changes are kept for 14 days by Resource Graph.
+     */
+    @Nonnull
+    @Override
+    public Duration getRetention() {
+        return Duration.ofDays(14);
+    }
+
+    @Nullable
+    private static ChangeType toChangeType(@Nonnull String type) {
+        switch (type.toLowerCase()) {
+            case "create":
+                return ChangeType.CREATE;
+            case "update":
+                return ChangeType.UPDATE;
+            case "delete":
+                return ChangeType.DELETE;
+            default:
+                return null;
+        }
+    }
+}
@@ -13,6 +13,13 @@ public interface ISenderReceiver extends AzResource {
     public void startReceivingMessage();
     public void stopReceivingMessage();
     public void sendMessage(String message);
+
+    /**
+     * send messages in bulk, implementations are expected to batch them instead of sending one by one.
+     */
+    default void sendMessages(Iterable<String> messages) {
+        messages.forEach(this::sendMessage);
+    }
     public boolean isListening();
     public boolean isSendEnabled();
 }
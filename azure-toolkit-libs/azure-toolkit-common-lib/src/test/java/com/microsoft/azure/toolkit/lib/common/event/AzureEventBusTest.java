@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.event;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AzureEventBusTest {
+    @Test
+    public void slowListenerNotBlockingOthers() throws InterruptedException {
+        final String type = "test.slow_listener";
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch fastDelivered = new CountDownLatch(3);
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException ignored) {
+            }
+        }));
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> fastDelivered.countDown()));
+        for (int i = 0; i < 3; i++) {
+            AzureEventBus.emit(type, "source", i);
+        }
+        try {
+            assertTrue(fastDelivered.await(2, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void deliverEveryEventOfNonCoalescingType() throws InterruptedException {
+        final String type = "test.counted";
+        final CountDownLatch delivered = new CountDownLatch(5);
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> delivered.countDown()));
+        assertFalse(AzureEventBus.isCoalescing(type));
+        for (int i = 0; i < 5; i++) {
+            AzureEventBus.emit(type, "source", "payload");
+        }
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(0, AzureEventBus.getMetrics(type).getCoalesced());
+    }
+
+    @Test
+    public void coalesceEqualEventsOfCoalescingType() throws InterruptedException {
+        final String type = "test.coalesced";
+        AzureEventBus.setCoalescing(type, true);
+        final AtomicInteger delivered = new AtomicInteger();
+        final CountDownLatch first = new CountDownLatch(1);
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> {
+            delivered.incrementAndGet();
+            first.countDown();
+        }));
+        for (int i = 0; i < 5; i++) {
+            AzureEventBus.emit(type, "source", "payload");
+        }
+        assertTrue(first.await(2, TimeUnit.SECONDS));
+        Thread.sleep(AzureEventBus.COALESCING_WINDOW.toMillis() * 2);
+        assertEquals(1, delivered.get());
+        assertEquals(4, AzureEventBus.getMetrics(type).getCoalesced());
+    }
+
+    @Test
+    public void deliverEventsOfSameSourceInOrder() throws InterruptedException {
+        final String type = "test.ordered";
+        final int count = 100;
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(count);
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> {
+            sleep(ThreadLocalRandom.current().nextInt(3));
+            received.add(e.getPayload());
+            delivered.countDown();
+        }));
+        for (int i = 0; i < count; i++) {
+            AzureEventBus.emit(type, "source", i);
+        }
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, count).boxed().collect(Collectors.toList()), received);
+    }
+
+    @Test
+    public void deliverBatchesInOrder() throws InterruptedException {
+        final String type = "test.batched";
+        final int count = 20;
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(count);
+        AzureEventBus.on(type, new AzureEventBus.BatchEventListener(events -> {
+            assertEquals(1, events.size());
+            sleep(ThreadLocalRandom.current().nextInt(3));
+            received.add(events.get(0).getPayload());
+            delivered.countDown();
+        }));
+        for (int i = 0; i < count; i++) {
+            AzureEventBus.emit(type, "source-" + (i % 3), i);
+        }
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, count).boxed().collect(Collectors.toList()), received);
+    }
+
+    @Test
+    public void deliverLatestOfCoalescedEventsLast() throws InterruptedException {
+        final String type = "test.coalesced_batch";
+        AzureEventBus.setCoalescing(type, true);
+        final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(1);
+        AzureEventBus.on(type, new AzureEventBus.BatchEventListener(events -> {
+            batches.add(events.stream().map(AzureEvent::getPayload).collect(Collectors.toList()));
+            delivered.countDown();
+        }));
+        AzureEventBus.emit(type, "source", "running");
+        AzureEventBus.emit(type, "source", "stopped");
+        AzureEventBus.emit(type, "source", "running");
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        Thread.sleep(AzureEventBus.COALESCING_WINDOW.toMillis() * 2);
+        assertEquals(Collections.singletonList(Arrays.asList("stopped", "running")), batches);
+        assertEquals(0, AzureEventBus.getMetrics(type).getQueueDepth());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
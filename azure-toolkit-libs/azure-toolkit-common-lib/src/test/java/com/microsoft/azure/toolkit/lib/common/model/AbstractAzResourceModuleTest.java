@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.model;
+
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.util.paging.ContinuablePage;
+import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
+import com.azure.resourcemanager.resources.fluentcore.arm.collection.SupportsListingByResourceGroup;
+import com.azure.resourcemanager.resources.fluentcore.arm.models.HasId;
+import com.azure.resourcemanager.resources.fluentcore.arm.models.HasName;
+import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
+import com.microsoft.azure.toolkit.lib.resource.ResourceGroup;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class AbstractAzResourceModuleTest {
+    private static final String SUBSCRIPTION = "00000000-0000-0000-0000-000000000000";
+
+    static {
+        // resources and modules of `NONE` refer to each other, modules must be initialized first.
+        Objects.requireNonNull(AzResourceModule.NONE);
+    }
+
+    private TestClient client;
+    private TestItemModule items;
+
+    @Before
+    public void setUp() {
+        this.client = new TestClient();
+        final TestSubscription subscription = new TestSubscription(SUBSCRIPTION, new TestService());
+        this.items = new TestItemModule("items", subscription, this.client);
+        this.client.add(this.items, "rg1", "a");
+        this.client.add(this.items, "rg1", "b");
+        this.client.add(this.items, "rg2", "c");
+    }
+
+    @Test
+    public void listByResourceGroupLoadsOnlyTheGroup() {
+        assertEquals(Collections.singletonList("c"), names(this.items.listByResourceGroup("rg2")));
+        assertEquals(1, this.client.groupListings.get());
+        assertEquals(0, this.client.fullListings.get());
+
+        assertEquals(Collections.singletonList("c"), names(this.items.listByResourceGroup("RG2")));
+        assertEquals(1, this.client.groupListings.get()); // synced already.
+
+        assertEquals(3, names(this.items.listByResourceGroups(Arrays.asList("rg1", "rg2"))).size());
+        assertEquals(2, this.client.groupListings.get());
+        assertEquals(0, this.client.fullListings.get());
+    }
+
+    @Test
+    public void listByResourceGroupFiltersLikeFullListing() {
+        this.client.add(this.items, "rg1", "child-of-a");
+        this.items.listed = r -> !r.name().startsWith("child-");
+        assertEquals(Arrays.asList("a", "b"), names(this.items.listByResourceGroup("rg1")));
+        this.items.refresh();
+        assertEquals(Arrays.asList("a", "b", "c"), names(this.items.list()));
+    }
+
+    @Test
+    public void listByResourceGroupOfNestedModuleFallsBackToFullListing() {
+        final TestItem parent = Objects.requireNonNull(this.items.get("a", "rg1"));
+        final TestClient nestedClient = new TestClient();
+        final TestItemModule nested = new TestItemModule("children", parent, nestedClient);
+        nestedClient.add(nested, "rg1", "x");
+        nestedClient.add(nested, "rg1", "y");
+        assertEquals(Arrays.asList("x", "y"), names(nested.listByResourceGroup("rg1")));
+        assertEquals(0, nestedClient.groupListings.get());
+        assertEquals(1, nestedClient.fullListings.get());
+    }
+
+    @Test
+    public void applyChangesFromFeed() throws InterruptedException {
+        final TestChangeFeed feed = new TestChangeFeed();
+        this.items.setChangeFeed(feed);
+        assertEquals(Arrays.asList("a", "b", "c"), names(this.items.list()));
+        assertEquals(1, this.client.fullListings.get());
+
+        final TestRemote added = this.client.add(this.items, "rg2", "d");
+        final TestRemote updated = this.client.update("a", "Stopped");
+        final String deleted = Objects.requireNonNull(this.client.get("b", "rg1")).id();
+        this.client.remove("b");
+        feed.changes = Arrays.asList(
+            new ResourceChangeFeed.ResourceChange(added.id(), ResourceChangeFeed.ChangeType.CREATE, OffsetDateTime.now()),
+            new ResourceChangeFeed.ResourceChange(deleted, ResourceChangeFeed.ChangeType.UPDATE, OffsetDateTime.now()),
+            new ResourceChangeFeed.ResourceChange(updated.id(), ResourceChangeFeed.ChangeType.UPDATE, OffsetDateTime.now()),
+            new ResourceChangeFeed.ResourceChange(deleted, ResourceChangeFeed.ChangeType.DELETE, OffsetDateTime.now()));
+        this.client.loads.set(0);
+        this.items.refresh();
+
+        assertEquals(Arrays.asList("a", "c", "d"), names(this.items.list()));
+        assertEquals(1, feed.queries.get());
+        assertEquals("Microsoft.Test/items", feed.resourceType);
+        assertEquals(1, this.client.fullListings.get());
+        assertEquals(2, this.client.loads.get()); // only the latest change of a resource is applied, deleted ones are not loaded.
+        final TestItem a = Objects.requireNonNull(this.items.get("a", "rg1"));
+        for (int i = 0; i < 50 && !"Stopped".equals(a.getCachedStatus()); i++) {
+            Thread.sleep(100); // remotes are applied asynchronously.
+        }
+        assertEquals("Stopped", a.getCachedStatus());
+    }
+
+    @Test
+    public void reloadWhenFeedReturnsNull() {
+        final TestChangeFeed feed = new TestChangeFeed();
+        this.items.setChangeFeed(feed);
+        this.items.list();
+        this.client.add(this.items, "rg2", "d");
+        feed.changes = null;
+        this.items.refresh();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), names(this.items.list()));
+        assertEquals(1, feed.queries.get());
+        assertEquals(2, this.client.fullListings.get());
+    }
+
+    @Test
+    public void reloadWhenChangesAreNotRetained() {
+        final TestChangeFeed feed = new TestChangeFeed();
+        feed.retention = Duration.ofMinutes(1); // shorter than the overlap of queries.
+        this.items.setChangeFeed(feed);
+        this.items.list();
+        this.client.add(this.items, "rg2", "d");
+        this.items.refresh();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), names(this.items.list()));
+        assertEquals(0, feed.queries.get());
+        assertEquals(2, this.client.fullListings.get());
+    }
+
+    @Test
+    public void reloadWhenFeedFails() {
+        final TestChangeFeed feed = new TestChangeFeed();
+        this.items.setChangeFeed(feed);
+        this.items.list();
+        this.client.add(this.items, "rg2", "d");
+        feed.error = new IllegalStateException("throttled");
+        this.items.refresh();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), names(this.items.list()));
+        assertEquals(1, feed.queries.get());
+        assertEquals(2, this.client.fullListings.get());
+    }
+
+    @Test(timeout = 10000)
+    public void reloadWhenChangedResourcesCanNotBeLoadedIndividually() {
+        final TestChangeFeed feed = new TestChangeFeed();
+        this.items.setChangeFeed(feed);
+        this.items.gettable = false;
+        this.items.list();
+        final TestRemote added = this.client.add(this.items, "rg2", "d");
+        feed.changes = Collections.singletonList(
+            new ResourceChangeFeed.ResourceChange(added.id(), ResourceChangeFeed.ChangeType.CREATE, OffsetDateTime.now()));
+        this.items.refresh();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), names(this.items.list()));
+        assertEquals(1, feed.queries.get());
+        assertEquals(2, this.client.fullListings.get());
+    }
+
+    @Test
+    public void deriveSummaryStatusFromListedRemote() {
+        final TestRemote stopped = this.client.update("a", AzResource.Status.STOPPED);
+        final AzResourceSummary summary = Objects.requireNonNull(this.items.summarize(stopped));
+        assertEquals(stopped.id(), summary.getId());
+        assertEquals(AzResource.Status.STOPPED, summary.getStatus());
+        this.items.summaryStatusLoadable = false;
+        assertEquals(AzResource.Status.UNKNOWN, Objects.requireNonNull(this.items.summarize(stopped)).getStatus());
+    }
+
+    @Nonnull
+    private static List<String> names(@Nonnull List<TestItem> resources) {
+        return resources.stream().map(AbstractAzResource::getName).sorted().collect(Collectors.toList());
+    }
+
+    static class TestChangeFeed implements ResourceChangeFeed {
+        final AtomicInteger queries = new AtomicInteger();
+        @Nullable
+        volatile List<ResourceChange> changes = Collections.emptyList();
+        @Nullable
+        volatile RuntimeException error;
+        @Nonnull
+        volatile Duration retention = Duration.ofDays(7);
+        @Nullable
+        volatile String resourceType;
+
+        @Nullable
+        @Override
+        public List<ResourceChange> query(@Nonnull String subscriptionId, @Nonnull String resourceType, @Nonnull OffsetDateTime since) {
+            this.queries.incrementAndGet();
+            this.resourceType = resourceType;
+            if (Objects.nonNull(this.error)) {
+                throw this.error;
+            }
+            return this.changes;
+        }
+
+        @Nonnull
+        @Override
+        public Duration getRetention() {
+            return this.retention;
+        }
+    }
+
+    static class TestRemote implements HasId, HasName {
+        private final String id;
+        private final String name;
+        private final String status;
+
+        TestRemote(@Nonnull String id, @Nonnull String status) {
+            this.id = id;
+            this.name = ResourceId.fromString(id).name();
+            this.status = status;
+        }
+
+        @Override
+        public String id() {
+            return this.id;
+        }
+
+        @Override
+        public String name() {
+            return this.name;
+        }
+    }
+
+    static class TestClient implements SupportsListingByResourceGroup<TestRemote> {
+        final List<TestRemote> remotes = new CopyOnWriteArrayList<>();
+        final AtomicInteger fullListings = new AtomicInteger();
+        final AtomicInteger groupListings = new AtomicInteger();
+        final AtomicInteger loads = new AtomicInteger();
+
+        @Nonnull
+        TestRemote add(@Nonnull TestItemModule module, @Nonnull String resourceGroup, @Nonnull String name) {
+            final TestRemote remote = new TestRemote(module.toResourceId(name, resourceGroup), AzResource.Status.RUNNING);
+            this.remotes.add(remote);
+            return remote;
+        }
+
+        @Nonnull
+        TestRemote update(@Nonnull String name, @Nonnull String status) {
+            final TestRemote origin = this.remotes.stream().filter(r -> r.name().equals(name)).findAny().orElseThrow(IllegalArgumentException::new);
+            final TestRemote updated = new TestRemote(origin.id(), status);
+            this.remotes.set(this.remotes.indexOf(origin), updated);
+            return updated;
+        }
+
+        void remove(@Nonnull String name) {
+            this.remotes.removeIf(r -> r.name().equals(name));
+        }
+
+        @Nullable
+        TestRemote get(@Nonnull String name, @Nullable String resourceGroup) {
+            this.loads.incrementAndGet();
+            return this.remotes.stream().filter(r -> r.name().equals(name) &&
+                StringUtils.equalsIgnoreCase(ResourceId.fromString(r.id()).resourceGroupName(), resourceGroup)).findAny().orElse(null);
+        }
+
+        @Nonnull
+        List<TestRemote> list() {
+            this.fullListings.incrementAndGet();
+            return new ArrayList<>(this.remotes);
+        }
+
+        @Override
+        public PagedIterable<TestRemote> listByResourceGroup(String resourceGroupName) {
+            this.groupListings.incrementAndGet();
+            return new PagedIterable<>(this.listByResourceGroupAsync(resourceGroupName));
+        }
+
+        @Override
+        public PagedFlux<TestRemote> listByResourceGroupAsync(String resourceGroupName) {
+            final List<TestRemote> inGroup = this.remotes.stream()
+                .filter(r -> StringUtils.equalsIgnoreCase(ResourceId.fromString(r.id()).resourceGroupName(), resourceGroupName))
+                .collect(Collectors.toList());
+            return new PagedFlux<>(() -> Mono.just(new PagedResponseBase<Void, TestRemote>(null, 200, null, inGroup, null, null)));
+        }
+    }
+
+    static class TestService extends AbstractAzService<TestSubscription, Object> {
+        TestService() {
+            super("Microsoft.Test");
+        }
+
+        @Nonnull
+        @Override
+        protected TestSubscription newResource(@Nonnull Object remote) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Nonnull
+        @Override
+        public String getResourceTypeName() {
+            return "Test";
+        }
+    }
+
+    static class TestSubscription extends AbstractAzServiceSubscription<TestSubscription, Object> {
+        TestSubscription(@Nonnull String subscriptionId, @Nonnull TestService service) {
+            super(subscriptionId, service);
+        }
+
+        @Nonnull
+        @Override
+        public String getSubscriptionId() {
+            return this.getName();
+        }
+
+        @Nonnull
+        @Override
+        public List<AbstractAzResourceModule<?, ?, ?>> getSubModules() {
+            return Collections.emptyList();
+        }
+    }
+
+    static class TestItemModule extends AbstractAzResourceModule<TestItem, AzResource, TestRemote> {
+        private final TestClient client;
+        @Nonnull
+        Predicate<TestRemote> listed = r -> true;
+        /**
+         * false to load resources like modules whose client can't get a resource individually.
+         */
+        boolean gettable = true;
+        /**
+         * false to derive summaries like modules that don't override {@link #loadSummaryStatus}.
+         */
+        boolean summaryStatusLoadable = true;
+
+        TestItemModule(@Nonnull String name, @Nonnull AzResource parent, @Nonnull TestClient client) {
+            super(name, parent);
+            this.client = client;
+        }
+
+        @Nonnull
+        @Override
+        protected Object getClient() {
+            return this.client;
+        }
+
+        @Nonnull
+        @Override
+        protected Iterator<? extends ContinuablePage<String, TestRemote>> loadResourcePagesFromAzure() {
+            return Collections.singletonList(new ItemPage<>(this.client.list())).iterator();
+        }
+
+        @Nullable
+        @Override
+        protected TestRemote loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
+            return this.gettable ? this.client.get(name, resourceGroup) : super.loadResourceFromAzure(name, resourceGroup);
+        }
+
+        @Override
+        protected boolean isListed(@Nonnull TestRemote remote) {
+            return this.listed.test(remote);
+        }
+
+        @Nullable
+        @Override
+        protected AzResourceSummary toSummary(@Nonnull TestRemote remote) {
+            return null; // summaries are mirrored into resource groups, which requires signing in.
+        }
+
+        @Nullable
+        AzResourceSummary summarize(@Nonnull TestRemote remote) {
+            return super.toSummary(remote);
+        }
+
+        @Nullable
+        @Override
+        protected String loadSummaryStatus(@Nonnull TestRemote remote) {
+            return this.summaryStatusLoadable ? remote.status : super.loadSummaryStatus(remote);
+        }
+
+        @Override
+        protected boolean isAuthRequired() {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        protected TestItem newResource(@Nonnull TestRemote remote) {
+            return new TestItem(remote.name(), ResourceId.fromString(remote.id()).resourceGroupName(), this);
+        }
+
+        @Nonnull
+        @Override
+        protected TestItem newResource(@Nonnull String name, @Nullable String resourceGroupName) {
+            return new TestItem(name, Objects.requireNonNull(resourceGroupName), this);
+        }
+    }
+
+    static class TestItem extends AbstractAzResource<TestItem, AzResource, TestRemote> {
+        TestItem(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull TestItemModule module) {
+            super(name, resourceGroupName, module);
+        }
+
+        @Nullable
+        @Override
+        public ResourceGroup getResourceGroup() {
+            return null;
+        }
+
+        @Nonnull
+        @Override
+        public List<AbstractAzResourceModule<?, ?, ?>> getSubModules() {
+            return Collections.emptyList();
+        }
+
+        @Nonnull
+        @Override
+        public String loadStatus(@Nonnull TestRemote remote) {
+            return remote.status;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PublicIpResolverTest {
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.stub("/fast", "\n 10.0.0.1 \n", 0);
+        this.stub("/slow", "10.0.0.2", 3000);
+        this.stub("/invalid", "not an ip", 0);
+        this.server.start();
+    }
+
+    @After
+    public void tearDown() {
+        this.server.stop(0);
+    }
+
+    @Test
+    public void firstValidIpWins() {
+        final PublicIpResolver resolver = new PublicIpResolver(Arrays.asList(url("/invalid"), url("/slow"), url("/fast")), Duration.ofSeconds(2));
+        final long start = System.currentTimeMillis();
+        assertEquals("10.0.0.1", resolver.resolve());
+        assertTrue(System.currentTimeMillis() - start < 2000);
+    }
+
+    @Test
+    public void emptyIfNoStrategySucceedsInTimeout() {
+        final PublicIpResolver resolver = new PublicIpResolver(Arrays.asList(url("/invalid"), url("/slow")), Duration.ofMillis(500));
+        final long start = System.currentTimeMillis();
+        assertEquals("", resolver.resolve(() -> {
+            throw new IllegalStateException("connection refused");
+        }));
+        assertTrue(System.currentTimeMillis() - start < 2000);
+    }
+
+    @Test
+    public void callerStrategyRacesWithUrls() {
+        final PublicIpResolver resolver = new PublicIpResolver(Arrays.asList(url("/slow")), Duration.ofSeconds(2));
+        assertEquals("10.0.0.3", resolver.resolve(() -> "10.0.0.3"));
+    }
+
+    @Test
+    public void resolveOncePerSession() {
+        final PublicIpResolver resolver = new PublicIpResolver(Arrays.asList(url("/fast")), Duration.ofSeconds(2));
+        assertEquals("10.0.0.1", resolver.resolve());
+        assertEquals("10.0.0.1", resolver.resolve());
+        assertEquals(1, resolver.getResolutionCount());
+        assertEquals(1, this.requests.get());
+        resolver.invalidate();
+        assertEquals("10.0.0.1", resolver.resolve());
+        assertEquals(2, resolver.getResolutionCount());
+    }
+
+    private void stub(String path, String body, long delay) {
+        this.server.createContext(path, exchange -> {
+            if (path.equals("/fast")) {
+                this.requests.incrementAndGet();
+            }
+            try {
+                Thread.sleep(delay);
+                final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (final OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (final InterruptedException | IOException ignored) {
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + this.server.getAddress().getPort() + path;
+    }
+}
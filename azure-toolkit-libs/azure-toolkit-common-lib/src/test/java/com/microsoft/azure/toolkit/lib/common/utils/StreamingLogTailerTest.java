@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StreamingLogTailerTest {
+    private static final String READY = "Container app_0 for site app initialized successfully and is ready to serve requests.";
+
+    private HttpServer server;
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/ready", exchange -> stream(exchange, Arrays.asList("line 1", "line 2", READY), 10000));
+        this.server.createContext("/idle", exchange -> stream(exchange, Arrays.asList("line 1"), 10000));
+        this.server.createContext("/drop", exchange -> {
+            if (this.connections.incrementAndGet() == 1) {
+                stream(exchange, Arrays.asList("line 1", "line 2"), 0);
+            } else {
+                stream(exchange, Arrays.asList("line 1", "line 2", "line 3", READY), 10000);
+            }
+        });
+        this.server.start();
+    }
+
+    @After
+    public void tearDown() {
+        this.server.stop(0);
+    }
+
+    @Test
+    public void stopAtTerminalMarker() {
+        final long start = System.currentTimeMillis();
+        tail("/ready", Duration.ofSeconds(5));
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals(Arrays.asList("line 1", "line 2", READY), printedLines());
+    }
+
+    @Test
+    public void stopWhenIdle() {
+        final long start = System.currentTimeMillis();
+        tail("/idle", Duration.ofMillis(500));
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals(Arrays.asList("line 1"), printedLines());
+    }
+
+    @Test
+    public void skipReplayedLinesAfterReconnecting() {
+        tail("/drop", Duration.ofSeconds(5));
+        assertEquals(2, this.connections.get());
+        assertEquals(Arrays.asList("line 1", "line 2", "line 3", READY), printedLines());
+    }
+
+    private void tail(String path, Duration idleTimeout) {
+        final StreamingLogTailer tailer = new StreamingLogTailer();
+        tailer.setIdleTimeout(idleTimeout);
+        tailer.setTerminalPatterns(Collections.singletonList(Pattern.compile("ready to serve requests")));
+        tailer.tail(() -> lines("http://127.0.0.1:" + this.server.getAddress().getPort() + path), this.messages::add);
+    }
+
+    private List<String> printedLines() {
+        return this.messages.stream().flatMap(m -> Arrays.stream(m.split(System.lineSeparator()))).collect(Collectors.toList());
+    }
+
+    private static Flux<String> lines(String url) {
+        return HttpClient.create().get().uri(url).responseContent().asString(StandardCharsets.UTF_8)
+            .flatMapIterable(chunk -> Arrays.asList(chunk.split("\n")));
+    }
+
+    private static void stream(HttpExchange exchange, List<String> lines, long holdMillis) throws IOException {
+        exchange.sendResponseHeaders(200, 0);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            for (final String line : lines) {
+                out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            Thread.sleep(holdMillis);
+        } catch (final InterruptedException | IOException ignored) {
+        }
+    }
+}
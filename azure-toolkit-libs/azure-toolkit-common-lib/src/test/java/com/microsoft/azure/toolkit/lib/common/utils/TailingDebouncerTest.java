@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TailingDebouncerTest {
+    @Test
+    public void fireOnceAfterLastDebounce() throws InterruptedException {
+        final AtomicInteger fired = new AtomicInteger();
+        final CountDownLatch firstFired = new CountDownLatch(1);
+        final TailingDebouncer debouncer = new TailingDebouncer(() -> {
+            fired.incrementAndGet();
+            firstFired.countDown();
+        }, 100);
+        for (int i = 0; i < 5; i++) {
+            debouncer.debounce();
+            Thread.sleep(20);
+        }
+        assertTrue(debouncer.isPending());
+        assertEquals(0, fired.get());
+        assertTrue(firstFired.await(2, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertEquals(1, fired.get());
+    }
+
+    @Test
+    public void notFireAfterCancelled() throws InterruptedException {
+        final AtomicInteger fired = new AtomicInteger();
+        final TailingDebouncer debouncer = new TailingDebouncer(fired::incrementAndGet, 50);
+        debouncer.debounce();
+        debouncer.cancel();
+        assertFalse(debouncer.isPending());
+        Thread.sleep(200);
+        assertEquals(0, fired.get());
+    }
+
+    @Test
+    public void keepScheduledWhenDebouncedWhileExpiring() throws Exception {
+        // more racing pairs than processors, so that threads are preempted in the middle of expiring.
+        final int pairs = Runtime.getRuntime().availableProcessors() * 4;
+        final int rounds = 5000;
+        final List<Thread> threads = new ArrayList<>();
+        final AtomicInteger lost = new AtomicInteger();
+        for (int p = 0; p < pairs; p++) {
+            final CyclicBarrier barrier = new CyclicBarrier(2);
+            final TailingDebouncer[] debouncers = new TailingDebouncer[rounds];
+            for (int i = 0; i < rounds; i++) {
+                // filed far in the future, so that only the expiring below races with the debouncing.
+                debouncers[i] = new TailingDebouncer(() -> {
+                }, (int) TimeUnit.MINUTES.toMillis(10));
+                debouncers[i].debounce();
+                debouncers[i].cancel();
+            }
+            threads.add(new Thread(() -> {
+                for (final TailingDebouncer debouncer : debouncers) {
+                    await(barrier);
+                    debouncer.expire(System.nanoTime());
+                    await(barrier);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (final TailingDebouncer debouncer : debouncers) {
+                    await(barrier);
+                    debouncer.debounce();
+                    await(barrier);
+                    if (!debouncer.isPending()) {
+                        lost.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals("debounced calls are lost", 0, lost.get());
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (final InterruptedException | BrokenBarrierException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
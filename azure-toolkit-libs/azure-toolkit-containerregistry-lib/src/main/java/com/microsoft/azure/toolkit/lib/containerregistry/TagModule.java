@@ -10,14 +10,12 @@ import com.azure.containers.containerregistry.models.ArtifactTagProperties;
 import com.azure.core.util.paging.ContinuablePage;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
-import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
 import org.apache.commons.collections4.CollectionUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -32,16 +30,13 @@ public class TagModule extends AbstractAzResourceModule<Tag, Artifact, ArtifactT
     @Nonnull
     @Override
     protected Iterator<? extends ContinuablePage<String, ArtifactTagProperties>> loadResourcePagesFromAzure() {
-        final List<String> tags = Optional.of(this.getParent())
-            .filter(AbstractAzResource::exists)
-            .map(Artifact::getTags)
-            .orElse(Collections.emptyList());
-        if (CollectionUtils.isEmpty(tags)) {
+        if (!this.parent.exists() || CollectionUtils.isEmpty(this.parent.getTags())) {
             return Collections.emptyIterator();
         }
         final Repository repository = this.getParent().getParent();
         final RegistryArtifact image = Objects.requireNonNull(repository.getRemote()).getArtifact(this.getParent().getDigest());
-        return Collections.singletonList(new ItemPage<>(tags.stream().map(image::getTagProperties))).iterator();
+        // list tag properties of the artifact page by page (one request per page) instead of getting them tag by tag.
+        return image.listTagProperties().streamByPage(getPageSize()).iterator();
     }
 
     @Nullable
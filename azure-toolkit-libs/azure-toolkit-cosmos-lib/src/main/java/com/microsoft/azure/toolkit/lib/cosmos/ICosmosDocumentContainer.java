@@ -6,9 +6,23 @@ package com.microsoft.azure.toolkit.lib.cosmos;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
+import com.microsoft.azure.toolkit.lib.cosmos.model.BulkTransferResult;
 
 import javax.annotation.Nonnull;
+import java.nio.file.Path;
 
 public interface ICosmosDocumentContainer<T extends ICosmosDocument> extends AzResource {
     T importDocument(@Nonnull final ObjectNode node);
+
+    /**
+     * import (upsert) documents from a NDJSON file (one document per line) in bulk.
+     *
+     * @param maxConcurrency max number of concurrent batches (per partition if supported by the API).
+     */
+    BulkTransferResult importDocuments(@Nonnull final Path source, int maxConcurrency);
+
+    /**
+     * export all documents to a NDJSON file (one document per line) by streaming a query page by page.
+     */
+    BulkTransferResult exportDocuments(@Nonnull final Path target, int pageSize);
 }
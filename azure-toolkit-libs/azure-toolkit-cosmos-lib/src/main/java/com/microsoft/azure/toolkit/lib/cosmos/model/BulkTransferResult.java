@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.cosmos.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * statistics of a bulk import/export of documents.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransferResult {
+    private long succeeded;
+    private long failed;
+    /**
+     * consumed request units, {@link Double#NaN} if it's not reported by the API (e.g. Mongo API).
+     */
+    private double requestCharge;
+    private Duration elapsed;
+
+    /**
+     * @return succeeded documents per second.
+     */
+    public double getThroughput() {
+        final long millis = this.elapsed.toMillis();
+        return millis > 0 ? this.succeeded * 1000.0 / millis : this.succeeded;
+    }
+}
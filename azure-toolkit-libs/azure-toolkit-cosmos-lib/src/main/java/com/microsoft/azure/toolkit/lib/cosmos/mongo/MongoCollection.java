@@ -12,24 +12,48 @@ import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.cosmos.ICosmosCollection;
 import com.microsoft.azure.toolkit.lib.cosmos.ICosmosDocumentContainer;
+import com.microsoft.azure.toolkit.lib.cosmos.model.BulkTransferResult;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static com.microsoft.azure.toolkit.lib.cosmos.mongo.MongoDocumentModule.MONGO_ID_KEY;
 
 public class MongoCollection extends AbstractAzResource<MongoCollection, MongoDatabase, MongoDBCollectionGetResultsInner>
         implements Deletable, ICosmosCollection, ICosmosDocumentContainer<MongoDocument> {
+    private static final int BULK_BATCH_SIZE = 100;
 
     @Getter
     private com.mongodb.client.MongoCollection<Document> collection;
@@ -79,6 +103,73 @@ public class MongoCollection extends AbstractAzResource<MongoCollection, MongoDa
         return result;
     }
 
+    @Override
+    @SneakyThrows(IOException.class)
+    @AzureOperation(name = "azure/cosmos.import_mongo_documents.collection", params = {"this.getName()"})
+    public BulkTransferResult importDocuments(@Nonnull final Path source, int maxConcurrency) {
+        final com.mongodb.client.MongoCollection<Document> client = Objects.requireNonNull(this.getClient(), String.format("Mongo collection (%s) is not accessible.", this.getName()));
+        final long start = System.currentTimeMillis();
+        final AtomicLong succeeded = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        try (final Stream<String> lines = Files.lines(source)) {
+            Flux.fromStream(lines.filter(StringUtils::isNotBlank).map(Document::parse).map(MongoCollection::toUpsertModel))
+                .buffer(BULK_BATCH_SIZE)
+                .flatMap(batch -> Mono.fromRunnable(() -> {
+                    final int errors = bulkWrite(client, batch);
+                    succeeded.addAndGet(batch.size() - errors);
+                    failed.addAndGet(errors);
+                }).subscribeOn(Schedulers.boundedElastic()), Math.max(1, maxConcurrency))
+                .blockLast();
+        }
+        // request charge of Mongo API is only reported per connection by `getLastRequestStatistics`, which is not reliable for concurrent writes.
+        final BulkTransferResult result = new BulkTransferResult(succeeded.get(), failed.get(), Double.NaN, Duration.ofMillis(System.currentTimeMillis() - start));
+        AzureMessager.getMessager().info(AzureString.format("%s documents are imported into Mongo collection %s (%s failed, %.1f documents/s).",
+            result.getSucceeded(), this.getName(), result.getFailed(), result.getThroughput()));
+        return result;
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    @AzureOperation(name = "azure/cosmos.export_mongo_documents.collection", params = {"this.getName()"})
+    public BulkTransferResult exportDocuments(@Nonnull final Path target, int pageSize) {
+        final com.mongodb.client.MongoCollection<Document> client = Objects.requireNonNull(this.getClient(), String.format("Mongo collection (%s) is not accessible.", this.getName()));
+        final JsonWriterSettings settings = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+        final long start = System.currentTimeMillis();
+        long succeeded = 0;
+        try (final BufferedWriter writer = Files.newBufferedWriter(target);
+             final MongoCursor<Document> cursor = client.find().batchSize(pageSize).iterator()) {
+            while (cursor.hasNext()) {
+                writer.write(cursor.next().toJson(settings));
+                writer.newLine();
+                succeeded++;
+            }
+        }
+        final BulkTransferResult result = new BulkTransferResult(succeeded, 0, Double.NaN, Duration.ofMillis(System.currentTimeMillis() - start));
+        AzureMessager.getMessager().info(AzureString.format("%s documents are exported from Mongo collection %s (%.1f documents/s).",
+            succeeded, this.getName(), result.getThroughput()));
+        return result;
+    }
+
+    @Nonnull
+    private static WriteModel<Document> toUpsertModel(@Nonnull Document document) {
+        if (document.get(MONGO_ID_KEY) == null) {
+            return new InsertOneModel<>(document);
+        }
+        return new ReplaceOneModel<>(new Document(MONGO_ID_KEY, document.get(MONGO_ID_KEY)), document, new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * @return count of failed writes
+     */
+    private static int bulkWrite(@Nonnull com.mongodb.client.MongoCollection<Document> client, @Nonnull List<WriteModel<Document>> batch) {
+        try {
+            client.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+            return 0;
+        } catch (final MongoBulkWriteException e) {
+            return e.getWriteErrors().size();
+        }
+    }
+
     @Nullable
     public String getSharedKey() {
         return Optional.ofNullable(getRemote())
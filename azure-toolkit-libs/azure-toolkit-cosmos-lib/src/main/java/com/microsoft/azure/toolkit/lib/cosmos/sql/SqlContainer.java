@@ -6,30 +6,56 @@ package com.microsoft.azure.toolkit.lib.cosmos.sql;
 
 import com.azure.cosmos.CosmosClient;
 import com.azure.cosmos.CosmosContainer;
+import com.azure.cosmos.models.CosmosBulkExecutionOptions;
+import com.azure.cosmos.models.CosmosBulkItemResponse;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosBulkOperations;
 import com.azure.cosmos.models.CosmosContainerResponse;
+import com.azure.cosmos.models.CosmosItemOperation;
+import com.azure.cosmos.models.CosmosQueryRequestOptions;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.models.PartitionKey;
 import com.azure.resourcemanager.cosmos.fluent.models.SqlContainerGetResultsInner;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Iterators;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
 import com.microsoft.azure.toolkit.lib.cosmos.ICosmosCollection;
 import com.microsoft.azure.toolkit.lib.cosmos.ICosmosDocumentContainer;
+import com.microsoft.azure.toolkit.lib.cosmos.model.BulkTransferResult;
 import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.microsoft.azure.toolkit.lib.cosmos.sql.SqlDocumentModule.ID;
 
 public class SqlContainer extends AbstractAzResource<SqlContainer, SqlDatabase, SqlContainerGetResultsInner>
         implements Deletable, ICosmosCollection, ICosmosDocumentContainer<SqlDocument> {
+    private static final String PARTITION_KEY_ALIAS = "_partitionKey";
     private CosmosContainer container;
     private CosmosContainerResponse containerResponse;
     @Getter
@@ -75,6 +101,123 @@ public class SqlContainer extends AbstractAzResource<SqlContainer, SqlDatabase,
         return result;
     }
 
+    @Override
+    @SneakyThrows(IOException.class)
+    @AzureOperation(name = "azure/cosmos.import_sql_documents.container", params = {"this.getName()"})
+    public BulkTransferResult importDocuments(@Nonnull final Path source, int maxConcurrency) {
+        final CosmosContainer client = Objects.requireNonNull(this.getClient(), String.format("SQL container (%s) is not accessible.", this.getName()));
+        final String partitionKey = this.getPartitionKey();
+        final CosmosBulkExecutionOptions options = new CosmosBulkExecutionOptions().setMaxMicroBatchConcurrency(maxConcurrency);
+        final long start = System.currentTimeMillis();
+        long succeeded = 0;
+        long failed = 0;
+        double requestCharge = 0;
+        try (final Stream<String> lines = Files.lines(source)) {
+            final Iterable<CosmosItemOperation> operations = () -> lines.filter(StringUtils::isNotBlank)
+                .map(line -> JsonUtils.fromJson(line, ObjectNode.class))
+                .map(node -> {
+                    if (node.get(ID) == null) {
+                        node.put(ID, UUID.randomUUID().toString());
+                    }
+                    return CosmosBulkOperations.getUpsertItemOperation(node, toPartitionKey(node, partitionKey));
+                }).iterator();
+            for (final CosmosBulkOperationResponse<Object> result : client.executeBulkOperations(operations, options)) {
+                final CosmosBulkItemResponse response = result.getResponse();
+                if (Objects.nonNull(response)) {
+                    requestCharge += response.getRequestCharge();
+                }
+                if (Objects.nonNull(response) && response.isSuccessStatusCode()) {
+                    succeeded++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+        final BulkTransferResult result = new BulkTransferResult(succeeded, failed, requestCharge, Duration.ofMillis(System.currentTimeMillis() - start));
+        AzureMessager.getMessager().info(AzureString.format("%s documents are imported into SQL container %s (%s failed, %.2f RUs, %.1f documents/s).",
+            succeeded, this.getName(), failed, requestCharge, result.getThroughput()));
+        return result;
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    @AzureOperation(name = "azure/cosmos.export_sql_documents.container", params = {"this.getName()"})
+    public BulkTransferResult exportDocuments(@Nonnull final Path target, int pageSize) {
+        final CosmosContainer client = Objects.requireNonNull(this.getClient(), String.format("SQL container (%s) is not accessible.", this.getName()));
+        final long start = System.currentTimeMillis();
+        long succeeded = 0;
+        double requestCharge = 0;
+        try (final BufferedWriter writer = Files.newBufferedWriter(target)) {
+            for (final FeedResponse<ObjectNode> page : client.queryItems("SELECT * FROM c", new CosmosQueryRequestOptions(), ObjectNode.class).iterableByPage(pageSize)) {
+                requestCharge += page.getRequestCharge();
+                for (final ObjectNode node : page.getResults()) {
+                    for (final String field : SqlDocument.HIDE_FIELDS) {
+                        node.remove(field);
+                    }
+                    writer.write(JsonUtils.toJson(node));
+                    writer.newLine();
+                    succeeded++;
+                }
+            }
+        }
+        final BulkTransferResult result = new BulkTransferResult(succeeded, 0, requestCharge, Duration.ofMillis(System.currentTimeMillis() - start));
+        AzureMessager.getMessager().info(AzureString.format("%s documents are exported from SQL container %s (%.2f RUs, %.1f documents/s).",
+            succeeded, this.getName(), requestCharge, result.getThroughput()));
+        return result;
+    }
+
+    @Nonnull
+    private static PartitionKey toPartitionKey(@Nonnull ObjectNode node, @Nullable String partitionKey) {
+        final JsonNode value = Objects.isNull(partitionKey) ? null : node.at(partitionKey);
+        if (Objects.isNull(value) || value.isMissingNode()) {
+            return PartitionKey.NONE;
+        } else if (value.isNull()) {
+            return new PartitionKey(null);
+        } else if (value.isNumber()) {
+            return new PartitionKey(value.numberValue());
+        } else if (value.isBoolean()) {
+            return new PartitionKey(value.booleanValue());
+        }
+        return new PartitionKey(value.asText());
+    }
+
+    /**
+     * query documents matching {@code filter} page by page on server side, only {@code id} and partition key of
+     * documents are fetched. documents in returned pages are not cached in {@link #getDocumentModule()} and their full
+     * bodies are loaded lazily on first access.
+     *
+     * @param filter            SQL condition on document alias {@code c}, e.g. {@code c.age > 18}, {@code null} to query all.
+     * @param continuationToken {@link ItemPage#getContinuationToken() continuation token} of previous page to resume from.
+     */
+    @Nonnull
+    public Iterator<ItemPage<SqlDocument>> queryDocuments(@Nullable String filter, @Nullable String continuationToken, int pageSize) {
+        final CosmosContainer client = this.getClient();
+        if (Objects.isNull(client)) {
+            return Collections.emptyIterator();
+        }
+        final String partitionKey = this.getPartitionKey();
+        final String projection = Objects.isNull(partitionKey) ? "c.id" : String.format("c.id, %s AS %s", toPropertyAccessor(partitionKey), PARTITION_KEY_ALIAS);
+        final String query = String.format("SELECT %s FROM c%s", projection, StringUtils.isBlank(filter) ? "" : " WHERE " + filter);
+        final Iterator<FeedResponse<ObjectNode>> pages = client.queryItems(query, new CosmosQueryRequestOptions(), ObjectNode.class)
+            .iterableByPage(continuationToken, pageSize).iterator();
+        return Iterators.transform(pages, page -> new ItemPage<>(Objects.requireNonNull(page).getResults().stream()
+            .map(node -> {
+                final String id = node.get(ID).asText();
+                final String partitionValue = Optional.ofNullable(node.get(PARTITION_KEY_ALIAS)).filter(n -> !n.isNull()).map(JsonNode::asText).orElse(null);
+                return this.documentModule.newResource(SqlDocumentModule.getSqlDocumentResourceName(id, partitionValue), this.getResourceGroupName());
+            }).collect(Collectors.toList()), page.getContinuationToken()));
+    }
+
+    /**
+     * convert partition key path (e.g. {@code /address/zipCode}) to property accessor of alias {@code c}, e.g. {@code c["address"]["zipCode"]}
+     */
+    @Nonnull
+    private static String toPropertyAccessor(@Nonnull String path) {
+        return Arrays.stream(StringUtils.split(path, "/"))
+            .map(p -> String.format("[\"%s\"]", p.replace("\"", "\\\"")))
+            .collect(Collectors.joining("", "c", ""));
+    }
+
     public String getPartitionKey() {
         return Optional.ofNullable(this.containerResponse)
                 .map(CosmosContainerResponse::getProperties)
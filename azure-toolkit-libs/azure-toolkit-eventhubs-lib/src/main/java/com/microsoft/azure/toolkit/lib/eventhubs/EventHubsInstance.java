@@ -6,6 +6,7 @@ package com.microsoft.azure.toolkit.lib.eventhubs;
 
 import com.azure.messaging.eventhubs.*;
 import com.azure.messaging.eventhubs.models.EventPosition;
+import com.azure.messaging.eventhubs.models.PartitionEvent;
 import com.azure.resourcemanager.eventhubs.EventHubsManager;
 import com.azure.resourcemanager.eventhubs.fluent.EventHubManagementClient;
 import com.azure.resourcemanager.eventhubs.fluent.models.EventhubInner;
@@ -13,9 +14,14 @@ import com.azure.resourcemanager.eventhubs.models.AccessRights;
 import com.azure.resourcemanager.eventhubs.models.EntityStatus;
 import com.azure.resourcemanager.eventhubs.models.EventHub;
 import com.azure.resourcemanager.eventhubs.models.EventHubAuthorizationRule;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.AzureConfiguration;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
+import com.microsoft.azure.toolkit.lib.common.event.AzureEventBus;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
@@ -27,19 +33,55 @@ import com.microsoft.azure.toolkit.lib.resource.message.ISenderReceiver;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, EventHubsNamespace, EventHub> implements Deletable, ISenderReceiver {
+    private static final int MAX_BUFFERED_EVENTS = 1000;
+    private static final int MAX_RENDERED_EVENTS_PER_INTERVAL = 20;
+    private static final Duration RENDER_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration CONNECTION_STRING_TTL = Duration.ofMinutes(30);
+
+    static {
+        // authorization rules may be changed outside, so resolved connection strings are dropped on refreshing.
+        AzureEventBus.on("resource.refreshed.resource", new AzureEventBus.EventListener(e -> {
+            final Object source = e.getSource();
+            if (source instanceof EventHubsInstance) {
+                ((EventHubsInstance) source).connectionStrings.invalidateAll();
+            } else if (source instanceof EventHubsNamespace) {
+                ((EventHubsNamespace) source).getSubModules().stream().flatMap(m -> m.listCachedResources().stream())
+                    .filter(r -> r instanceof EventHubsInstance).forEach(r -> ((EventHubsInstance) r).connectionStrings.invalidateAll());
+            }
+        }));
+    }
+
     @Nullable
     @Getter
     private EntityStatus entityStatus;
     @Nullable
     private EventHubConsumerAsyncClient consumerAsyncClient;
     private final List<Disposable> receivers = new ArrayList<>();
+    /**
+     * long-lived producers, keyed by access rights of the connection string they are created with.
+     */
+    private final Map<String, EventHubsProducer> producers = new ConcurrentHashMap<>();
+    /**
+     * resolved connection strings, keyed by the access rights they are resolved for.
+     */
+    private final Cache<Set<AccessRights>, String> connectionStrings = CacheBuilder.newBuilder()
+        .expireAfterWrite(CONNECTION_STRING_TTL.toMillis(), TimeUnit.MILLISECONDS)
+        .build();
     @Nullable
     private IAzureMessager messager;
     protected EventHubsInstance(@Nonnull String name, @Nonnull EventHubsInstanceModule module) {
@@ -54,6 +96,10 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
     protected void updateAdditionalProperties(@Nullable EventHub newRemote, @Nullable EventHub oldRemote) {
         super.updateAdditionalProperties(newRemote, oldRemote);
         this.entityStatus = Optional.ofNullable(newRemote).map(EventHub::innerModel).map(EventhubInner::status).orElse(null);
+        if (Objects.isNull(newRemote)) {
+            this.closeProducers();
+            this.connectionStrings.invalidateAll();
+        }
     }
 
     @Nonnull
@@ -79,33 +125,64 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
 
     @Override
     public synchronized void startReceivingMessage() {
+        if (this.isListening()) {
+            return;
+        }
         final AzureConfiguration config = Azure.az().config();
         final String consumerGroupName = config.getEventHubsConsumerGroup();
         messager = AzureMessager.getMessager();
         messager.info(AzureString.format("Start listening to event hub ({0}) for consumerGroup ({1})...\n", getName(), consumerGroupName));
         messager.info("You can change default consumer group in Azure Settings\n");
-        remoteOptional().ifPresent(remote -> remote.partitionIds().forEach(partitionId -> {
-            this.consumerAsyncClient = new EventHubClientBuilder()
-                    .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN)))
-                    .consumerGroup(consumerGroupName)
-                    .buildAsyncConsumerClient();
-            messager.info(AzureString.format("Created receiver for partition ({0})\n", partitionId));
-            Optional.ofNullable(this.consumerAsyncClient).ifPresent(client ->
-                    receivers.add(client.receiveFromPartition(partitionId, EventPosition.latest())
-                            .subscribe(partitionEvent -> {
-                                messager.info(AzureString.format("Message Received from partition (%s): ", partitionId));
-                                messager.debug(AzureString.format("\"%s\"\n", partitionEvent.getData().getBodyAsString()));
-                            })));
+        final EventHub remote = this.getRemote();
+        if (Objects.isNull(remote)) {
+            return;
+        }
+        // one consumer (one connection) for all partitions.
+        final EventHubConsumerAsyncClient client = new EventHubClientBuilder()
+                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN)))
+                .consumerGroup(consumerGroupName)
+                .prefetchCount(config.getEventHubsPrefetchCount())
+                .buildAsyncConsumerClient();
+        this.consumerAsyncClient = client;
+        final List<String> partitionIds = new ArrayList<>(remote.partitionIds());
+        messager.info(AzureString.format("Created receiver for partitions ({0})\n", StringUtils.join(partitionIds, ",")));
+        final IAzureMessager output = messager;
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicLong suppressed = new AtomicLong();
+        final AtomicLong rendered = new AtomicLong();
+        final Flux<PartitionEvent> events = Flux.merge(partitionIds.stream()
+                .map(partitionId -> client.receiveFromPartition(partitionId, EventPosition.latest()))
+                .collect(Collectors.toList()));
+        // events are buffered (dropping the oldest ones if full) so that a slow console never blocks the AMQP links.
+        receivers.add(events
+                .onBackpressureBuffer(MAX_BUFFERED_EVENTS, e -> dropped.incrementAndGet(), BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .subscribe(partitionEvent -> {
+                    if (rendered.incrementAndGet() > MAX_RENDERED_EVENTS_PER_INTERVAL) {
+                        suppressed.incrementAndGet();
+                        return;
+                    }
+                    output.info(AzureString.format("Message Received from partition (%s): ", partitionEvent.getPartitionContext().getPartitionId()));
+                    output.debug(AzureString.format("\"%s\"\n", partitionEvent.getData().getBodyAsString()));
+                }, e -> output.error(AzureString.format("Failed to receive messages from event hub (%s): %s", getName(), e))));
+        receivers.add(Flux.interval(RENDER_INTERVAL).subscribe(i -> {
+            rendered.set(0);
+            final long s = suppressed.getAndSet(0);
+            final long d = dropped.getAndSet(0);
+            if (s > 0 || d > 0) {
+                output.info(AzureString.format("%s more messages received and not shown, %s messages dropped since receiving is too fast.\n", s, d));
+            }
         }));
     }
 
     @Override
     public synchronized void stopReceivingMessage() {
+        // cancel subscriptions first so that all partition links are released before the connection is closed.
+        this.receivers.forEach(Disposable::dispose);
+        this.receivers.clear();
         Optional.ofNullable(consumerAsyncClient).ifPresent(EventHubConsumerAsyncClient::close);
         Optional.ofNullable(messager).orElse(AzureMessager.getMessager()).info(AzureString.format("Stop listening to event hub ({0})\n", getName()));
         this.consumerAsyncClient = null;
-        this.receivers.forEach(Disposable::dispose);
-        this.receivers.clear();
     }
 
     @Override
@@ -122,36 +199,72 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
     public void sendMessage(String message) {
         final IAzureMessager messager = AzureMessager.getMessager();
         messager.info(AzureString.format("Sending message to Event Hub (%s)...\n", getName()));
-        try (final EventHubProducerClient producer = new EventHubClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)))
-                .buildProducerClient()) {
-            EventDataBatch eventDataBatch = producer.createBatch();
-            final EventData eventData =  new EventData(message);
-            if (!eventDataBatch.tryAdd(eventData)) {
-                producer.send(eventDataBatch);
-                eventDataBatch = producer.createBatch();
-                if (!eventDataBatch.tryAdd(eventData)) {
-                    final String reason = "Event is too large for an empty batch. Max size: "
-                            + eventDataBatch.getMaxSizeInBytes();
-                    messager.error(AzureString.format("Failed to send message to Event Hub (%s): %s", getName(), reason));
-                }
-            }
-            if (eventDataBatch.getCount() > 0) {
-                producer.send(eventDataBatch);
-                messager.info("Successfully sent message ");
-                messager.success(AzureString.format("\"%s\"", message));
-                messager.info(AzureString.format(" to Event Hub (%s)\n", getName()));
-            }
+        try {
+            this.getProducer(AccessRights.SEND).send(Collections.singletonList(message));
+            messager.info("Successfully sent message ");
+            messager.success(AzureString.format("\"%s\"", message));
+            messager.info(AzureString.format(" to Event Hub (%s)\n", getName()));
         } catch (final Exception e) {
             messager.error(AzureString.format("Failed to send message to Event Hub (%s): %s", getName(), e));
         }
     }
 
+    @Override
+    public void sendMessages(Iterable<String> messages) {
+        final IAzureMessager messager = AzureMessager.getMessager();
+        messager.info(AzureString.format("Sending messages to Event Hub (%s)...\n", getName()));
+        try {
+            final EventHubsProducer producer = this.getProducer(AccessRights.SEND);
+            final long sent = producer.getSentEvents();
+            producer.send(messages);
+            messager.info(AzureString.format("Successfully sent %s messages to Event Hub (%s)\n", producer.getSentEvents() - sent, getName()));
+        } catch (final Exception e) {
+            messager.error(AzureString.format("Failed to send messages to Event Hub (%s): %s", getName(), e));
+        }
+    }
+
+    /**
+     * @return producer shared by all sends of this event hub with the same access rights, created on first use.
+     */
+    @Nonnull
+    public EventHubsProducer getProducer(@Nonnull AccessRights... accessRights) {
+        final List<AccessRights> rights = Arrays.stream(accessRights).sorted().collect(Collectors.toList());
+        return this.producers.computeIfAbsent(StringUtils.join(rights, "-"), k -> new EventHubsProducer(new EventHubClientBuilder()
+            .connectionString(getOrCreateConnectionString(rights))
+            .buildProducerClient()));
+    }
+
+    /**
+     * close all cached producers, pending events are sent before closing.
+     */
+    public void closeProducers() {
+        final List<EventHubsProducer> closing = new ArrayList<>(this.producers.values());
+        this.producers.clear();
+        closing.forEach(p -> {
+            try {
+                p.close();
+            } catch (final Exception e) {
+                AzureMessager.getMessager().warning(AzureString.format("Failed to close producer of Event Hub (%s): %s", getName(), e));
+            }
+        });
+    }
+
     public String getOrCreateListenConnectionString() {
         return getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN));
     }
 
-    private String getOrCreateConnectionString(List<AccessRights> accessRights) {
+    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
+        try {
+            // concurrent gets of the same access rights wait for the one loading, gets of other access rights are not blocked.
+            return this.connectionStrings.get(new HashSet<>(accessRights), () -> this.loadOrCreateConnectionString(accessRights));
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new AzureToolkitRuntimeException(e.getCause());
+        }
+    }
+
+    @Nonnull
+    protected String loadOrCreateConnectionString(List<AccessRights> accessRights) {
         final List<EventHubAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
                 .map(eventHubInstance -> eventHubInstance.listAuthorizationRules().stream()
                         .filter(rule -> new HashSet<>(rule.rights()).containsAll(accessRights))
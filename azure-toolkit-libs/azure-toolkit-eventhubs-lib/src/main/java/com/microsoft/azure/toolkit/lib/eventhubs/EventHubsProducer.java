@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+package com.microsoft.azure.toolkit.lib.eventhubs;
+
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventDataBatch;
+import com.azure.messaging.eventhubs.EventHubProducerClient;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * long-lived producer that batches events client side, a batch is sent once it's full or {@link #getLinger() linger}
+ * after its first event is added, whichever comes first. a batch failed to send is kept and sent again on next flush.
+ */
+@Slf4j
+public class EventHubsProducer implements Closeable {
+    public static final Duration DEFAULT_LINGER = Duration.ofMillis(100);
+
+    @Nonnull
+    private final EventHubProducerClient client;
+    @Nonnull
+    private final Duration linger;
+    @Nullable
+    private EventDataBatch batch;
+    @Nullable
+    private Disposable scheduledFlush;
+    private boolean closed;
+    private final AtomicLong sentEvents = new AtomicLong();
+    private final AtomicLong sentBatches = new AtomicLong();
+
+    public EventHubsProducer(@Nonnull EventHubProducerClient client) {
+        this(client, DEFAULT_LINGER);
+    }
+
+    public EventHubsProducer(@Nonnull EventHubProducerClient client, @Nonnull Duration linger) {
+        this.client = client;
+        this.linger = linger;
+    }
+
+    /**
+     * add event into current batch, the batch is sent first if the event doesn't fit in.
+     */
+    public synchronized void add(@Nonnull EventData event) {
+        if (this.closed) {
+            throw new AzureToolkitRuntimeException(String.format("producer of event hub (%s) is closed.", this.client.getEventHubName()));
+        }
+        if (Objects.isNull(this.batch)) {
+            this.batch = this.client.createBatch();
+        }
+        if (!this.batch.tryAdd(event)) {
+            this.flush();
+            this.batch = this.client.createBatch();
+            if (!this.batch.tryAdd(event)) {
+                throw new AzureToolkitRuntimeException("Event is too large for an empty batch. Max size: " + this.batch.getMaxSizeInBytes());
+            }
+        }
+        if (Objects.isNull(this.scheduledFlush)) {
+            // sending blocks, which is not allowed on non-blocking (e.g. parallel) threads.
+            this.scheduledFlush = Schedulers.boundedElastic().schedule(this::flushQuietly, this.linger.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * add all messages and send them without waiting for the linger.
+     */
+    public synchronized void send(@Nonnull Iterable<String> messages) {
+        messages.forEach(m -> this.add(new EventData(m)));
+        this.flush();
+    }
+
+    /**
+     * send current batch if it's not empty, the batch is kept if it fails to send.
+     */
+    public synchronized void flush() {
+        Optional.ofNullable(this.scheduledFlush).ifPresent(Disposable::dispose);
+        this.scheduledFlush = null;
+        final EventDataBatch current = this.batch;
+        if (Objects.nonNull(current) && current.getCount() > 0) {
+            this.client.send(current);
+            this.sentEvents.addAndGet(current.getCount());
+            this.sentBatches.incrementAndGet();
+        }
+        this.batch = null;
+    }
+
+    private void flushQuietly() {
+        try {
+            this.flush();
+        } catch (final Exception e) {
+            log.warn("failed to send batched events to event hub ({}).", this.client.getEventHubName(), e);
+        }
+    }
+
+    @Nonnull
+    public Duration getLinger() {
+        return this.linger;
+    }
+
+    public long getSentEvents() {
+        return this.sentEvents.get();
+    }
+
+    public long getSentBatches() {
+        return this.sentBatches.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.closed) {
+            return;
+        }
+        try {
+            this.flush();
+        } finally {
+            this.closed = true;
+            this.client.close();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.eventhubs;
+
+import com.azure.resourcemanager.eventhubs.models.AccessRights;
+import com.microsoft.azure.toolkit.lib.common.model.AzResourceModule;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EventHubsInstanceTest {
+    static {
+        // resources and modules of `NONE` refer to each other, modules must be initialized first.
+        Objects.requireNonNull(AzResourceModule.NONE);
+    }
+
+    private CountedInstance instance;
+
+    @Before
+    public void setUp() {
+        final EventHubsNamespace namespace = mock(EventHubsNamespace.class);
+        when(namespace.getResourceGroupName()).thenReturn("rg");
+        final EventHubsInstanceModule module = mock(EventHubsInstanceModule.class);
+        when(module.getParent()).thenReturn(namespace);
+        this.instance = new CountedInstance(module);
+    }
+
+    @Test
+    public void loadOnceAcrossSends() throws Exception {
+        final int sends = 20;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(sends);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < sends; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return this.instance.getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND));
+                }));
+            }
+            start.countDown();
+            for (final Future<String> result : results) {
+                assertEquals("Send", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, this.instance.loads.get());
+    }
+
+    @Test
+    public void loadPerAccessRights() {
+        this.instance.getOrCreateConnectionString(Arrays.asList(AccessRights.SEND, AccessRights.LISTEN));
+        this.instance.getOrCreateConnectionString(Arrays.asList(AccessRights.LISTEN, AccessRights.SEND));
+        assertEquals(1, this.instance.loads.get());
+        this.instance.getOrCreateListenConnectionString();
+        assertEquals(2, this.instance.loads.get());
+    }
+
+    @Test
+    public void reloadAfterEntityIsGone() {
+        this.instance.getOrCreateListenConnectionString();
+        this.instance.updateAdditionalProperties(null, null);
+        this.instance.getOrCreateListenConnectionString();
+        assertEquals(2, this.instance.loads.get());
+    }
+
+    @Test
+    public void reloadAfterFailedToLoad() {
+        this.instance.failing.set(true);
+        try {
+            this.instance.getOrCreateListenConnectionString();
+            fail("load should fail");
+        } catch (final IllegalStateException ignored) {
+        }
+        this.instance.failing.set(false);
+        assertEquals("Listen", this.instance.getOrCreateListenConnectionString());
+        assertEquals(2, this.instance.loads.get());
+    }
+
+    private static class CountedInstance extends EventHubsInstance {
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        CountedInstance(@Nonnull EventHubsInstanceModule module) {
+            super("hub", module);
+        }
+
+        @Nonnull
+        @Override
+        protected String loadOrCreateConnectionString(List<AccessRights> accessRights) {
+            this.loads.incrementAndGet();
+            try {
+                // listing/creating authorization rules takes a while.
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (this.failing.get()) {
+                throw new IllegalStateException("failed to list authorization rules");
+            }
+            return accessRights.stream().map(AccessRights::toString).sorted().reduce((a, b) -> a + "-" + b).orElse("");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.eventhubs;
+
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventDataBatch;
+import com.azure.messaging.eventhubs.EventHubProducerClient;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EventHubsProducerTest {
+    private static final int BATCH_CAPACITY = 3;
+
+    private EventHubProducerClient client;
+    private final List<Integer> sentBatches = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failToSend = new AtomicBoolean();
+
+    @Before
+    public void setUp() {
+        this.client = mock(EventHubProducerClient.class);
+        when(this.client.getEventHubName()).thenReturn("hub");
+        when(this.client.createBatch()).thenAnswer(i -> newBatch());
+        doAnswer(i -> {
+            // the real client blocks on the async client, which throws on non-blocking threads.
+            Mono.delay(Duration.ofMillis(1)).block();
+            if (this.failToSend.get()) {
+                throw new IllegalStateException("link is closed");
+            }
+            this.sentBatches.add(((EventDataBatch) i.getArgument(0)).getCount());
+            return null;
+        }).when(this.client).send(any(EventDataBatch.class));
+    }
+
+    @Test
+    public void sendWhenBatchIsFull() {
+        final EventHubsProducer producer = new EventHubsProducer(this.client, Duration.ofMinutes(1));
+        for (int i = 0; i < 7; i++) {
+            producer.add(new EventData("event " + i));
+        }
+        assertEquals(Arrays.asList(3, 3), this.sentBatches);
+        producer.close();
+        assertEquals(Arrays.asList(3, 3, 1), this.sentBatches);
+        assertEquals(7, producer.getSentEvents());
+        assertEquals(3, producer.getSentBatches());
+    }
+
+    @Test
+    public void sendAfterLinger() throws InterruptedException {
+        final EventHubsProducer producer = new EventHubsProducer(this.client, Duration.ofMillis(50));
+        producer.add(new EventData("event 0"));
+        producer.add(new EventData("event 1"));
+        assertTrue(this.sentBatches.isEmpty());
+        for (int i = 0; i < 50 && this.sentBatches.isEmpty(); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(Collections.singletonList(2), this.sentBatches);
+        assertEquals(2, producer.getSentEvents());
+    }
+
+    @Test
+    public void keepBatchFailedToSend() {
+        final EventHubsProducer producer = new EventHubsProducer(this.client, Duration.ofMinutes(1));
+        producer.add(new EventData("event 0"));
+        this.failToSend.set(true);
+        try {
+            producer.flush();
+            fail("flush should fail");
+        } catch (final IllegalStateException ignored) {
+        }
+        this.failToSend.set(false);
+        producer.add(new EventData("event 1"));
+        producer.flush();
+        assertEquals(Collections.singletonList(2), this.sentBatches);
+    }
+
+    private static EventDataBatch newBatch() {
+        final AtomicInteger count = new AtomicInteger();
+        final EventDataBatch batch = mock(EventDataBatch.class);
+        when(batch.tryAdd(any())).thenAnswer(i -> count.get() < BATCH_CAPACITY && count.incrementAndGet() > 0);
+        when(batch.getCount()).thenAnswer(i -> count.get());
+        when(batch.getMaxSizeInBytes()).thenReturn(1024);
+        return batch;
+    }
+}
@@ -18,6 +18,7 @@ import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.model.Startable;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.common.utils.NetUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.PublicIpResolver;
 import com.microsoft.azure.toolkit.lib.database.JdbcUrl;
 import com.microsoft.azure.toolkit.lib.database.entity.IDatabaseServer;
 import com.microsoft.azure.toolkit.lib.database.entity.IFirewallRule;
@@ -162,20 +163,21 @@ public class MySqlServer extends AbstractAzResource<MySqlServer, MySqlServiceSub
     @Nonnull
     @Override
     public String getLocalMachinePublicIp() {
-        // try to get public IP by ping MYSQL Server
+        // race pinging MYSQL Server with pinging public URLs
+        return PublicIpResolver.getInstance().resolve(this::getLocalMachinePublicIpByPing);
+    }
+
+    @Nullable
+    private String getLocalMachinePublicIpByPing() {
         String username = this.getAdminName() + "@" + this.getName();
         try {
             Class.forName("com.mysql.jdbc.Driver");
             DriverManager.getConnection(JdbcUrl.mysql(this.getFullyQualifiedDomainName()).toString(), username, null);
         } catch (SQLException e) {
-            String ip = NetUtils.parseIpAddressFromMessage(e.getMessage());
-            if (StringUtils.isNotBlank(ip)) {
-                return ip;
-            }
+            return NetUtils.parseIpAddressFromMessage(e.getMessage());
         } catch (ClassNotFoundException ignored) {
         }
-        // Alternatively, get public IP by ping public URL
-        return NetUtils.getPublicIp();
+        return null;
     }
 
     @Nonnull
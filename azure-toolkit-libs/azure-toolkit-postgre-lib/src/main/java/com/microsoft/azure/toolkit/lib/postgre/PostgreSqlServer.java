@@ -18,6 +18,7 @@ import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.model.Startable;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.common.utils.NetUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.PublicIpResolver;
 import com.microsoft.azure.toolkit.lib.database.JdbcUrl;
 import com.microsoft.azure.toolkit.lib.database.entity.IDatabaseServer;
 import com.microsoft.azure.toolkit.lib.database.entity.IFirewallRule;
@@ -161,20 +162,21 @@ public class PostgreSqlServer extends AbstractAzResource<PostgreSqlServer, Postg
     @Nonnull
     @Override
     public String getLocalMachinePublicIp() {
-        // try to get public IP by ping PostgreSQL Server
+        // race pinging PostgreSQL Server with pinging public URLs
+        return PublicIpResolver.getInstance().resolve(this::getLocalMachinePublicIpByPing);
+    }
+
+    @Nullable
+    private String getLocalMachinePublicIpByPing() {
         String username = this.getAdminName() + "@" + this.getName();
         try {
             Class.forName("org.postgresql.Driver");
             DriverManager.getConnection(JdbcUrl.postgre(this.getFullyQualifiedDomainName(), "postgres").toString(), username, null);
         } catch (SQLException e) {
-            String ip = NetUtils.parseIpAddressFromMessage(e.getMessage());
-            if (StringUtils.isNotBlank(ip)) {
-                return ip;
-            }
+            return NetUtils.parseIpAddressFromMessage(e.getMessage());
         } catch (ClassNotFoundException ignored) {
         }
-        // Alternatively, get public IP by ping public URL
-        return NetUtils.getPublicIp();
+        return null;
     }
 
     @Nonnull
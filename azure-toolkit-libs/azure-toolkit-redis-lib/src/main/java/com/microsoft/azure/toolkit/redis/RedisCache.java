@@ -6,6 +6,7 @@
 package com.microsoft.azure.toolkit.redis;
 
 import com.azure.resourcemanager.resources.fluentcore.arm.models.Resource;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
@@ -13,20 +14,38 @@ import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.redis.model.PricingTier;
+import com.microsoft.azure.toolkit.redis.model.RedisConfig;
+import com.microsoft.azure.toolkit.redis.model.RedisKeyInfo;
+import lombok.Getter;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class RedisCache extends AbstractAzResource<RedisCache, RedisServiceSubscription, com.azure.resourcemanager.redis.models.RedisCache>
     implements Deletable {
-    private static final int JEDIS_TIMEOUT = 500;
+    public static final int DEFAULT_SCAN_COUNT = 1000;
 
-    private JedisPool jedisPool;
+    @Nullable
+    private volatile JedisPool jedisPool;
+    /**
+     * settings of {@link #getJedisPool() jedis pool}, only pool related settings are used.
+     */
+    @Nonnull
+    @Getter
+    private RedisConfig poolConfig = new RedisConfig();
 
     protected RedisCache(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull RedisCacheModule module) {
         super(name, resourceGroupName, module);
@@ -38,6 +57,7 @@ public class RedisCache extends AbstractAzResource<RedisCache, RedisServiceSubsc
     protected RedisCache(@Nonnull RedisCache origin) {
         super(origin);
         this.jedisPool = origin.jedisPool;
+        this.poolConfig = origin.poolConfig;
     }
 
     protected RedisCache(@Nonnull com.azure.resourcemanager.redis.models.RedisCache remote, @Nonnull RedisCacheModule module) {
@@ -46,17 +66,20 @@ public class RedisCache extends AbstractAzResource<RedisCache, RedisServiceSubsc
 
     @Override
     public void delete() {
-        if (Objects.nonNull(this.jedisPool) && !this.jedisPool.isClosed()) {
-            try {
-                this.jedisPool.close();
-            } catch (Exception e) {
-                final String message = String.format("Failed to close jedis pool of Redis Cache(%s)", this.getName());
-                AzureMessager.getMessager().warning(message);
-            }
-        }
+        this.closeJedisPool();
         super.delete();
     }
 
+    @Override
+    protected void updateAdditionalProperties(@Nullable com.azure.resourcemanager.redis.models.RedisCache newRemote,
+                                              @Nullable com.azure.resourcemanager.redis.models.RedisCache oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        if (Objects.nonNull(oldRemote) && (Objects.isNull(newRemote) ||
+            !Objects.equals(newRemote.hostname(), oldRemote.hostname()) || newRemote.sslPort() != oldRemote.sslPort())) {
+            this.closeJedisPool();
+        }
+    }
+
     @Nonnull
     @Override
     public List<AbstractAzResourceModule<?, ?, ?>> getSubModules() {
@@ -112,15 +135,104 @@ public class RedisCache extends AbstractAzResource<RedisCache, RedisServiceSubsc
         return remoteOptional().map(com.azure.resourcemanager.redis.models.RedisCache::hostname).orElse(null);
     }
 
+    /**
+     * the jedis pool is recreated with new settings on next {@link #getJedisPool()}.
+     */
+    public void setPoolConfig(@Nonnull RedisConfig poolConfig) {
+        this.poolConfig = poolConfig;
+        this.closeJedisPool();
+    }
+
     @Nonnull
     @AzureOperation(name = "redis.get_jedis_pool.redis", params = {"this.getName()"})
-    public synchronized JedisPool getJedisPool() {
-        if (Objects.isNull(this.jedisPool) || this.jedisPool.isClosed()) {
-            final String hostName = this.getHostName();
-            final String password = this.getPrimaryKey();
-            final int port = this.getSSLPort();
-            this.jedisPool = new JedisPool(new JedisPoolConfig(), hostName, port, JEDIS_TIMEOUT, password, true);
+    public JedisPool getJedisPool() {
+        JedisPool pool = this.jedisPool;
+        if (Objects.isNull(pool) || pool.isClosed()) {
+            synchronized (this) {
+                pool = this.jedisPool;
+                if (Objects.isNull(pool) || pool.isClosed()) {
+                    final com.azure.resourcemanager.redis.models.RedisCache remote = this.getRemote();
+                    if (Objects.isNull(remote)) {
+                        throw new AzureToolkitRuntimeException(String.format("Redis Cache(%s) doesn't exist.", this.getName()));
+                    }
+                    final RedisConfig config = this.poolConfig;
+                    pool = new JedisPool(toJedisPoolConfig(config), remote.hostname(), remote.sslPort(), config.getConnectionTimeoutMillis(),
+                        config.getSocketTimeoutMillis(), remote.keys().primaryKey(), Protocol.DEFAULT_DATABASE, null, true);
+                    this.jedisPool = pool;
+                }
+            }
         }
-        return this.jedisPool;
+        return pool;
+    }
+
+    /**
+     * scan a page of keys matching {@code pattern} with their types and ttls, in two round trips: one SCAN and
+     * one pipeline of TYPE and TTL of all scanned keys.
+     *
+     * @param cursor {@link ScanParams#SCAN_POINTER_START} or cursor of the previous page.
+     * @param count  hint of how many keys to scan.
+     */
+    @Nonnull
+    @AzureOperation(name = "redis.scan_keys.redis", params = {"this.getName()"})
+    public ScanResult<RedisKeyInfo> scanKeys(@Nonnull String cursor, @Nonnull String pattern, int count) {
+        try (final Jedis jedis = this.getJedisPool().getResource()) {
+            final ScanResult<String> scanned = jedis.scan(cursor, new ScanParams().match(pattern).count(count));
+            final List<String> keys = scanned.getResult();
+            final Pipeline pipeline = jedis.pipelined();
+            final List<Response<String>> types = keys.stream().map(pipeline::type).collect(Collectors.toList());
+            final List<Response<Long>> ttls = keys.stream().map(pipeline::ttl).collect(Collectors.toList());
+            pipeline.sync();
+            final List<RedisKeyInfo> infos = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                infos.add(new RedisKeyInfo(keys.get(i), types.get(i).get(), ttls.get(i).get()));
+            }
+            return new ScanResult<>(scanned.getCursor(), infos);
+        }
+    }
+
+    /**
+     * scan keys matching {@code pattern} with their types and ttls until {@code limit} keys are found or all keys are scanned.
+     */
+    @Nonnull
+    public List<RedisKeyInfo> scanKeys(@Nonnull String pattern, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        final List<RedisKeyInfo> result = new ArrayList<>();
+        String cursor = ScanParams.SCAN_POINTER_START;
+        do {
+            // a large COUNT blocks the server for long, so pages are never larger than the default.
+            final ScanResult<RedisKeyInfo> page = this.scanKeys(cursor, pattern, DEFAULT_SCAN_COUNT);
+            result.addAll(page.getResult());
+            cursor = page.getCursor();
+        } while (!ScanParams.SCAN_POINTER_START.equals(cursor) && result.size() < limit);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private synchronized void closeJedisPool() {
+        final JedisPool pool = this.jedisPool;
+        this.jedisPool = null;
+        if (Objects.nonNull(pool) && !pool.isClosed()) {
+            try {
+                pool.close();
+            } catch (Exception e) {
+                final String message = String.format("Failed to close jedis pool of Redis Cache(%s)", this.getName());
+                AzureMessager.getMessager().warning(message);
+            }
+        }
+    }
+
+    @Nonnull
+    private static JedisPoolConfig toJedisPoolConfig(@Nonnull RedisConfig config) {
+        final JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(config.getMaxTotalConnections());
+        poolConfig.setMaxIdle(config.getMaxIdleConnections());
+        poolConfig.setMinIdle(config.getMinIdleConnections());
+        poolConfig.setMaxWaitMillis(config.getMaxWaitMillis());
+        poolConfig.setTestOnBorrow(config.isTestOnBorrow());
+        poolConfig.setTestWhileIdle(config.isTestWhileIdle());
+        poolConfig.setTimeBetweenEvictionRunsMillis(config.getTimeBetweenEvictionRunsMillis());
+        poolConfig.setMinEvictableIdleTimeMillis(config.getMinEvictableIdleTimeMillis());
+        return poolConfig;
     }
 }
@@ -24,4 +24,19 @@ public class RedisConfig {
     private Region region;
     private PricingTier pricingTier;
     private boolean enableNonSslPort;
+
+    // settings of the jedis pool connecting to the cache
+    private int maxTotalConnections = 8;
+    private int maxIdleConnections = 8;
+    private int minIdleConnections = 0;
+    /**
+     * max time in milliseconds to wait for a connection when the pool is exhausted.
+     */
+    private long maxWaitMillis = 5000;
+    private int connectionTimeoutMillis = 2000;
+    private int socketTimeoutMillis = 2000;
+    private boolean testOnBorrow = false;
+    private boolean testWhileIdle = true;
+    private long timeBetweenEvictionRunsMillis = 30000;
+    private long minEvictableIdleTimeMillis = 60000;
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.redis.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+
+/**
+ * metadata of a key in Redis Cache, see {@link com.microsoft.azure.toolkit.redis.RedisCache#scanKeys}.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RedisKeyInfo {
+    @Nonnull
+    private final String key;
+    /**
+     * e.g. string, list, set, zset, hash, stream, or none if the key is removed after scanned.
+     */
+    @Nonnull
+    private final String type;
+    /**
+     * remaining time to live in seconds, -1 if the key has no expiration, -2 if the key doesn't exist.
+     */
+    private final long ttl;
+}
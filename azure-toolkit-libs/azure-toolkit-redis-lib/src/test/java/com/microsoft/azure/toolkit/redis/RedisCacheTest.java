@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.redis;
+
+import com.microsoft.azure.toolkit.lib.common.model.AzResourceModule;
+import com.microsoft.azure.toolkit.redis.model.RedisKeyInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class RedisCacheTest {
+    static {
+        // resources and modules of `NONE` refer to each other, modules must be initialized first.
+        Objects.requireNonNull(AzResourceModule.NONE);
+    }
+
+    private static final int KEYS = 10;
+    private static final int PAGE = 4;
+
+    private JedisPool pool;
+    private Jedis jedis;
+    private RedisCache cache;
+
+    @Before
+    public void setUp() {
+        this.jedis = mock(Jedis.class);
+        // pages of keys `k0`..`k9`, the cursor of a page is the index of its next key.
+        when(this.jedis.scan(anyString(), any(ScanParams.class))).thenAnswer(invocation -> {
+            final int start = Integer.parseInt(invocation.getArgument(0));
+            final int end = Math.min(start + PAGE, KEYS);
+            final List<String> keys = IntStream.range(start, end).mapToObj(i -> "k" + i).collect(Collectors.toList());
+            return new ScanResult<>(end < KEYS ? String.valueOf(end) : ScanParams.SCAN_POINTER_START, keys);
+        });
+        final Pipeline pipeline = mock(Pipeline.class);
+        when(this.jedis.pipelined()).thenReturn(pipeline);
+        when(pipeline.type(anyString())).thenAnswer(invocation -> response(type(invocation.getArgument(0))));
+        when(pipeline.ttl(anyString())).thenAnswer(invocation -> response(ttl(invocation.getArgument(0))));
+        this.pool = mock(JedisPool.class);
+        when(this.pool.getResource()).thenReturn(this.jedis);
+        final RedisServiceSubscription subscription = mock(RedisServiceSubscription.class);
+        final RedisCacheModule module = mock(RedisCacheModule.class);
+        when(module.getParent()).thenReturn(subscription);
+        // required by telemetry of operations.
+        when(module.getSubscriptionId()).thenReturn("sub");
+        when(module.getFullResourceType()).thenReturn("Microsoft.Cache/redis");
+        this.cache = new PooledRedisCache(module, this.pool);
+    }
+
+    @Test
+    public void scanAllPagesWithTypesAndTtls() {
+        final List<RedisKeyInfo> infos = this.cache.scanKeys("*", Integer.MAX_VALUE);
+        assertEquals(KEYS, infos.size());
+        for (int i = 0; i < KEYS; i++) {
+            final RedisKeyInfo info = infos.get(i);
+            assertEquals("k" + i, info.getKey());
+            assertEquals(type(info.getKey()), info.getType());
+            assertEquals(ttl(info.getKey()), info.getTtl());
+        }
+        final ArgumentCaptor<ScanParams> params = ArgumentCaptor.forClass(ScanParams.class);
+        verify(this.jedis, times(3)).scan(anyString(), params.capture());
+        // a large limit is not passed through as the COUNT hint.
+        for (final ScanParams param : params.getAllValues()) {
+            assertEquals(String.valueOf(RedisCache.DEFAULT_SCAN_COUNT), count(param));
+        }
+    }
+
+    @Test
+    public void stopScanningAtLimit() {
+        final List<RedisKeyInfo> infos = this.cache.scanKeys("*", 5);
+        assertEquals(Arrays.asList("k0", "k1", "k2", "k3", "k4"), infos.stream().map(RedisKeyInfo::getKey).collect(Collectors.toList()));
+        verify(this.jedis, times(2)).scan(anyString(), any(ScanParams.class));
+    }
+
+    @Test
+    public void scanNothingIfLimitIsNotPositive() {
+        assertTrue(this.cache.scanKeys("*", 0).isEmpty());
+        assertEquals(Collections.emptyList(), this.cache.scanKeys("*", -1));
+        verifyNoInteractions(this.pool);
+    }
+
+    private static String type(String key) {
+        return Integer.parseInt(key.substring(1)) % 2 == 0 ? "string" : "hash";
+    }
+
+    private static long ttl(String key) {
+        return Integer.parseInt(key.substring(1)) * 10L - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Response<T> response(T value) {
+        final Response<T> response = mock(Response.class);
+        when(response.get()).thenReturn(value);
+        return response;
+    }
+
+    /**
+     * value following the `COUNT` keyword in the scan params.
+     */
+    private static String count(ScanParams params) {
+        final List<String> args = new ArrayList<>();
+        params.getParams().forEach(p -> args.add(new String(p, StandardCharsets.UTF_8)));
+        for (final Iterator<String> it = args.iterator(); it.hasNext(); ) {
+            if ("COUNT".equalsIgnoreCase(it.next()) && it.hasNext()) {
+                return it.next();
+            }
+        }
+        return null;
+    }
+
+    private static class PooledRedisCache extends RedisCache {
+        private final JedisPool pool;
+
+        PooledRedisCache(@Nonnull RedisCacheModule module, @Nonnull JedisPool pool) {
+            super("redis", "rg", module);
+            this.pool = pool;
+        }
+
+        @Nonnull
+        @Override
+        public JedisPool getJedisPool() {
+            return this.pool;
+        }
+    }
+}
@@ -8,30 +8,77 @@ package com.microsoft.azure.toolkit.lib.servicebus.model;
 import com.azure.messaging.servicebus.*;
 import com.azure.resourcemanager.servicebus.models.AccessRights;
 import com.azure.resourcemanager.servicebus.models.EntityStatus;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
+import com.microsoft.azure.toolkit.lib.common.event.AzureEventBus;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.resource.message.ISenderReceiver;
 import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public abstract class ServiceBusInstance<
         T extends ServiceBusInstance<T, P, F>, P, F>
         extends AbstractAzResource<T, ServiceBusNamespace, F> implements ISenderReceiver {
+    public static final Duration SENDER_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration CONNECTION_STRING_TTL = Duration.ofMinutes(30);
+
+    static {
+        // authorization rules may be changed outside, so resolved connection strings are dropped on refreshing.
+        AzureEventBus.on("resource.refreshed.resource", new AzureEventBus.EventListener(e -> {
+            final Object source = e.getSource();
+            if (source instanceof ServiceBusInstance) {
+                ((ServiceBusInstance<?, ?, ?>) source).connectionStrings.invalidateAll();
+            } else if (source instanceof ServiceBusNamespace) {
+                ((ServiceBusNamespace) source).getSubModules().stream().flatMap(m -> m.listCachedResources().stream())
+                    .filter(r -> r instanceof ServiceBusInstance).forEach(r -> ((ServiceBusInstance<?, ?, ?>) r).connectionStrings.invalidateAll());
+            }
+        }));
+    }
+
     @Nullable
     protected EntityStatus entityStatus;
     @Nullable
     protected ServiceBusProcessorClient processorClient;
     @Nullable
     protected IAzureMessager messager;
+    /**
+     * sender reused across sends, closed once it's idle for {@link #SENDER_IDLE_TIMEOUT}.
+     */
+    @Nullable
+    private ServiceBusSenderClient senderClient;
+    @Nullable
+    private Disposable senderEviction;
+    private long senderLastUsed;
+    /**
+     * sends using the sender right now, the sender is not evicted while any is in flight.
+     */
+    private int inFlightSends;
+    /**
+     * resolved connection strings, keyed by the access rights they are resolved for.
+     */
+    private final Cache<Set<AccessRights>, String> connectionStrings = CacheBuilder.newBuilder()
+        .expireAfterWrite(CONNECTION_STRING_TTL.toMillis(), TimeUnit.MILLISECONDS)
+        .build();
 
     protected ServiceBusInstance(@Nonnull String name, @Nonnull AbstractAzResourceModule<T, ServiceBusNamespace, F> module) {
         super(name, module);
@@ -46,7 +93,21 @@ public abstract class ServiceBusInstance<
     public String getOrCreateListenConnectionString() {
         return getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN));
     }
-    protected abstract String getOrCreateConnectionString(List<AccessRights> accessRights);
+    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
+        try {
+            // concurrent gets of the same access rights wait for the one loading, gets of other access rights are not blocked.
+            return this.connectionStrings.get(new HashSet<>(accessRights), () -> this.loadOrCreateConnectionString(accessRights));
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new AzureToolkitRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * resolve connection string from authorization rules of this entity, a rule is created if none has the access rights.
+     */
+    @Nonnull
+    protected abstract String loadOrCreateConnectionString(List<AccessRights> accessRights);
 
     @Nullable
     public EntityStatus getEntityStatus() {
@@ -55,7 +116,118 @@ public abstract class ServiceBusInstance<
     public abstract void updateStatus(EntityStatus status);
 
     @Override
-    public abstract void sendMessage(String message);
+    protected void updateAdditionalProperties(@Nullable F newRemote, @Nullable F oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        if (Objects.isNull(newRemote)) {
+            this.closeSender();
+            this.connectionStrings.invalidateAll();
+        }
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        final IAzureMessager messager = AzureMessager.getMessager();
+        messager.info(AzureString.format("Sending message to %s (%s)...\n", getResourceTypeName(), getName()));
+        try {
+            this.acquireSender().sendMessage(new ServiceBusMessage(message));
+            messager.info("Successfully sent message ");
+            messager.success(AzureString.format("\"%s\"", message));
+            messager.info(AzureString.format(" to %s (%s)\n", getResourceTypeName(), getName()));
+        } catch (final Exception e) {
+            messager.error(AzureString.format("Failed to send message to %s (%s): %s", getResourceTypeName(), getName(), e));
+        } finally {
+            this.releaseSender();
+        }
+    }
+
+    /**
+     * send messages in as few {@link ServiceBusMessageBatch batches} as possible.
+     */
+    @Override
+    public void sendMessages(Iterable<String> messages) {
+        final IAzureMessager messager = AzureMessager.getMessager();
+        messager.info(AzureString.format("Sending messages to %s (%s)...\n", getResourceTypeName(), getName()));
+        int sent = 0;
+        try {
+            final ServiceBusSenderClient sender = this.acquireSender();
+            ServiceBusMessageBatch batch = sender.createMessageBatch();
+            for (final String message : messages) {
+                final ServiceBusMessage m = new ServiceBusMessage(message);
+                if (!batch.tryAddMessage(m)) {
+                    if (batch.getCount() > 0) {
+                        sender.sendMessages(batch);
+                        sent += batch.getCount();
+                    }
+                    batch = sender.createMessageBatch();
+                    if (!batch.tryAddMessage(m)) {
+                        throw new AzureToolkitRuntimeException("Message is too large for an empty batch. Max size: " + batch.getMaxSizeInBytes());
+                    }
+                }
+            }
+            if (batch.getCount() > 0) {
+                sender.sendMessages(batch);
+                sent += batch.getCount();
+            }
+            messager.info(AzureString.format("Successfully sent %s messages to %s (%s)\n", sent, getResourceTypeName(), getName()));
+        } catch (final Exception e) {
+            messager.error(AzureString.format("Failed to send messages to %s (%s) after %s messages sent: %s", getResourceTypeName(), getName(), sent, e));
+        } finally {
+            this.releaseSender();
+        }
+    }
+
+    /**
+     * @return the sender of this entity, created on first use and reused until it's idle for {@link #SENDER_IDLE_TIMEOUT}.
+     * every call must be paired with a {@link #releaseSender()} once the send completes.
+     */
+    @Nonnull
+    protected synchronized ServiceBusSenderClient acquireSender() {
+        this.inFlightSends++;
+        this.senderLastUsed = System.currentTimeMillis();
+        if (Objects.isNull(this.senderClient)) {
+            this.senderClient = this.createSenderClient(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)));
+            this.scheduleSenderEviction(SENDER_IDLE_TIMEOUT.toMillis());
+        }
+        return this.senderClient;
+    }
+
+    protected synchronized void releaseSender() {
+        this.inFlightSends--;
+        this.senderLastUsed = System.currentTimeMillis();
+    }
+
+    @Nonnull
+    protected abstract ServiceBusSenderClient createSenderClient(@Nonnull String connectionString);
+
+    private void scheduleSenderEviction(long delay) {
+        // closing the sender blocks, which is not allowed on parallel schedulers.
+        this.senderEviction = Schedulers.boundedElastic().schedule(this::evictIdleSender, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void evictIdleSender() {
+        if (Objects.isNull(this.senderClient)) {
+            return;
+        }
+        final long idle = System.currentTimeMillis() - this.senderLastUsed;
+        if (this.inFlightSends > 0) {
+            this.scheduleSenderEviction(SENDER_IDLE_TIMEOUT.toMillis());
+        } else if (idle < SENDER_IDLE_TIMEOUT.toMillis()) {
+            this.scheduleSenderEviction(SENDER_IDLE_TIMEOUT.toMillis() - idle);
+        } else {
+            this.closeSender();
+        }
+    }
+
+    /**
+     * close the cached sender if any, a new one is created on next send.
+     */
+    public synchronized void closeSender() {
+        Optional.ofNullable(this.senderEviction).ifPresent(Disposable::dispose);
+        this.senderEviction = null;
+        final ServiceBusSenderClient sender = this.senderClient;
+        this.senderClient = null;
+        Optional.ofNullable(sender).ifPresent(ServiceBusSenderClient::close);
+    }
     @Override
     public abstract void startReceivingMessage();
     @Override
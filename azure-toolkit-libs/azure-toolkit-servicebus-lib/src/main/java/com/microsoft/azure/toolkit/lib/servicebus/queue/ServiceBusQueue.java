@@ -18,7 +18,6 @@ import com.azure.resourcemanager.servicebus.models.QueueAuthorizationRule;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
-import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
 import com.microsoft.azure.toolkit.lib.servicebus.model.ServiceBusInstance;
@@ -60,22 +59,14 @@ public class ServiceBusQueue extends ServiceBusInstance<ServiceBusQueue, Service
                 .ifPresent(c -> doModify(() -> c.createOrUpdate(getResourceGroupName(), namespace.getName(), getName(), inner.withStatus(status)), Status.UPDATING));
     }
 
+    @Nonnull
     @Override
-    public void sendMessage(String message) {
-        final IAzureMessager messager = AzureMessager.getMessager();
-        messager.info(AzureString.format("Sending message to Service Bus Queue (%s)...\n", getName()));
-        try (final ServiceBusSenderClient senderClient = new ServiceBusClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)))
+    protected ServiceBusSenderClient createSenderClient(@Nonnull String connectionString) {
+        return new ServiceBusClientBuilder()
+                .connectionString(connectionString)
                 .sender()
                 .queueName(getName())
-                .buildClient()) {
-            senderClient.sendMessage(new ServiceBusMessage(message));
-            messager.info("Successfully sent message ");
-            messager.success(AzureString.format("\"%s\"", message));
-            messager.info(AzureString.format(" to Service Bus Queue (%s)\n", getName()));
-        } catch (final Exception e) {
-            messager.error(AzureString.format("Failed to send message to Service Bus Queue (%s): %s", getName(), e));
-        }
+                .buildClient();
     }
 
     @Override
@@ -94,8 +85,9 @@ public class ServiceBusQueue extends ServiceBusInstance<ServiceBusQueue, Service
         processorClient.start();
     }
 
+    @Nonnull
     @Override
-    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
+    protected String loadOrCreateConnectionString(List<AccessRights> accessRights) {
         final List<QueueAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
                 .map(queue -> queue.authorizationRules().list().stream()
                         .filter(rule -> new HashSet<>(rule.rights()).containsAll(accessRights))
@@ -15,7 +15,6 @@ import com.azure.resourcemanager.servicebus.models.*;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
-import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.utils.Utils;
 import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
@@ -58,22 +57,14 @@ public class ServiceBusTopic extends ServiceBusInstance<ServiceBusTopic, Service
                 .ifPresent(c -> doModify(() -> c.createOrUpdate(getResourceGroupName(), namespace.getName(), getName(), inner.withStatus(status)), Status.UPDATING));
     }
 
+    @Nonnull
     @Override
-    public void sendMessage(String message) {
-        final IAzureMessager messager = AzureMessager.getMessager();
-        messager.info(AzureString.format("Sending message to Service Bus Topic (%s)...\n", getName()));
-        try (final ServiceBusSenderClient senderClient = new ServiceBusClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)))
+    protected ServiceBusSenderClient createSenderClient(@Nonnull String connectionString) {
+        return new ServiceBusClientBuilder()
+                .connectionString(connectionString)
                 .sender()
                 .topicName(getName())
-                .buildClient()) {
-            senderClient.sendMessage(new ServiceBusMessage(message));
-            messager.info("Successfully sent message ");
-            messager.success(AzureString.format("\"%s\"", message));
-            messager.info(AzureString.format(" to Service Bus Topic (%s)\n", getName()));
-        } catch (final Exception e) {
-            messager.error(AzureString.format("Failed to send message to Service Bus Topic (%s): %s", getName(), e));
-        }
+                .buildClient();
     }
 
     @Override
@@ -93,8 +84,9 @@ public class ServiceBusTopic extends ServiceBusInstance<ServiceBusTopic, Service
         processorClient.start();
     }
 
+    @Nonnull
     @Override
-    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
+    protected String loadOrCreateConnectionString(List<AccessRights> accessRights) {
         final List<TopicAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
                 .map(topic -> topic.authorizationRules().list().stream()
                         .filter(rule -> new HashSet<>(rule.rights()).containsAll(accessRights))
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.servicebus.queue;
+
+import com.azure.resourcemanager.servicebus.models.AccessRights;
+import com.microsoft.azure.toolkit.lib.common.model.AzResourceModule;
+import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ServiceBusQueueTest {
+    static {
+        // resources and modules of `NONE` refer to each other, modules must be initialized first.
+        Objects.requireNonNull(AzResourceModule.NONE);
+    }
+
+    private CountedQueue queue;
+
+    @Before
+    public void setUp() {
+        final ServiceBusNamespace namespace = mock(ServiceBusNamespace.class);
+        when(namespace.getResourceGroupName()).thenReturn("rg");
+        final ServiceBusQueueModule module = mock(ServiceBusQueueModule.class);
+        when(module.getParent()).thenReturn(namespace);
+        this.queue = new CountedQueue(module);
+    }
+
+    @Test
+    public void loadOnceAcrossSends() throws Exception {
+        final int sends = 20;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(sends);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < sends; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return this.queue.getOrCreateSendConnectionString();
+                }));
+            }
+            start.countDown();
+            for (final Future<String> result : results) {
+                assertEquals("Send", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, this.queue.loads.get());
+    }
+
+    @Test
+    public void reloadAfterEntityIsGone() {
+        this.queue.getOrCreateListenConnectionString();
+        this.queue.updateAdditionalProperties(null, null);
+        this.queue.getOrCreateListenConnectionString();
+        assertEquals(2, this.queue.loads.get());
+    }
+
+    private static class CountedQueue extends ServiceBusQueue {
+        private final AtomicInteger loads = new AtomicInteger();
+
+        CountedQueue(@Nonnull ServiceBusQueueModule module) {
+            super("queue", module);
+        }
+
+        String getOrCreateSendConnectionString() {
+            return this.getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND));
+        }
+
+        @Nonnull
+        @Override
+        protected String loadOrCreateConnectionString(List<AccessRights> accessRights) {
+            this.loads.incrementAndGet();
+            try {
+                // listing/creating authorization rules takes a while.
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return accessRights.get(0).toString();
+        }
+    }
+}
@@ -37,7 +37,9 @@ public class SpringCloudClusterModule extends AbstractAzResourceModule<SpringClo
     public SpringCloudCluster get(@Nonnull String name, @Nullable String resourceGroup) {
         resourceGroup = StringUtils.firstNonBlank(resourceGroup, this.getParent().getResourceGroupName());
         if (StringUtils.isBlank(resourceGroup) || StringUtils.equalsIgnoreCase(resourceGroup, RESOURCE_GROUP_PLACEHOLDER)) {
-            return this.list().stream().filter(c -> StringUtils.equalsIgnoreCase(name, c.getName())).findAny().orElse(null);
+            // only the found cluster is materialized.
+            return this.listSummaries().stream().filter(c -> StringUtils.equalsIgnoreCase(name, c.getName())).findAny()
+                .map(c -> super.get(c.getName(), c.getResourceGroupName())).orElse(null);
         }
         return super.get(name, resourceGroup);
     }
@@ -12,6 +12,7 @@ import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.utils.NetUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.PublicIpResolver;
 import com.microsoft.azure.toolkit.lib.database.JdbcUrl;
 import com.microsoft.azure.toolkit.lib.database.entity.IDatabaseServer;
 import com.microsoft.azure.toolkit.lib.database.entity.IFirewallRule;
@@ -120,25 +121,25 @@ public class MicrosoftSqlServer extends AbstractAzResource<MicrosoftSqlServer, M
     @Nonnull
     @Override
     public String getLocalMachinePublicIp() {
-        String ip;
-        // try to get public IP by ping SQL SqlServer
+        // race pinging SQL SqlServer with pinging public URLs
+        final String ip = PublicIpResolver.getInstance().resolve(this::getLocalMachinePublicIpByPing);
+        if (StringUtils.isBlank(ip)) {
+            throw new AzureToolkitRuntimeException("Failed to retrieve public IP in your environment, please confirm your network is available.");
+        }
+        return ip;
+    }
+
+    @Nullable
+    private String getLocalMachinePublicIpByPing() {
         String username = this.getAdminName() + "@" + this.getName();
         try {
             Class.forName("com.microsoft.sqlserver.jdbc.SQLServerDriver");
             DriverManager.getConnection(JdbcUrl.sqlserver(this.getFullyQualifiedDomainName()).toString(), username, null);
         } catch (SQLException e) {
-            ip = StringUtils.trim(NetUtils.parseIpAddressFromMessage(e.getMessage()));
-            if (StringUtils.isNotBlank(ip) && NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find()) {
-                return ip;
-            }
+            return NetUtils.parseIpAddressFromMessage(e.getMessage());
         } catch (ClassNotFoundException ignored) {
         }
-        // Alternatively, get public IP by ping public URL
-        ip = NetUtils.getPublicIp();
-        if (StringUtils.isBlank(ip) || !NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find()) {
-            throw new AzureToolkitRuntimeException("Failed to retrieve public IP in your environment, please confirm your network is available.");
-        }
-        return ip;
+        return null;
     }
 
     @Nonnull
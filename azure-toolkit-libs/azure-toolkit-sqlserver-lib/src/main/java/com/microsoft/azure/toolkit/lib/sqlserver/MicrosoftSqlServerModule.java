@@ -80,6 +80,12 @@ public class MicrosoftSqlServerModule extends AbstractAzResourceModule<Microsoft
         return new MicrosoftSqlServer(name, Objects.requireNonNull(resourceGroupName), this);
     }
 
+    @Nullable
+    @Override
+    protected String loadSummaryStatus(@Nonnull SqlServer remote) {
+        return remote.state();
+    }
+
     @Nonnull
     @Override
     public String getResourceTypeName() {
@@ -51,6 +51,12 @@ public class StorageAccountModule extends AbstractAzResourceModule<StorageAccoun
         return new StorageAccount(name, Objects.requireNonNull(resourceGroupName), this);
     }
 
+    @Nullable
+    @Override
+    protected String loadSummaryStatus(@Nonnull com.azure.resourcemanager.storage.models.StorageAccount remote) {
+        return Optional.ofNullable(remote.innerModel().provisioningState()).map(Object::toString).orElse(null);
+    }
+
     @Nonnull
     @Override
     public String getResourceTypeName() {
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.storage;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.DownloadRetryOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobDownloadToFileOptions;
+import com.azure.storage.blob.options.BlobUploadFromFileOptions;
+import com.azure.storage.file.share.ShareFileClient;
+import com.azure.storage.file.share.models.ShareFileHttpHeaders;
+import com.azure.storage.file.share.models.ShareFileProperties;
+import com.azure.storage.file.share.models.ShareFileRange;
+import com.azure.storage.file.share.models.ShareFileUploadRangeOptions;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * chunked parallel upload/download of blobs and file share files. every transfer is exposed as a cold {@link Flux}
+ * of the accumulated transferred bytes, the transfer starts on subscription and the flux completes when it's done.
+ */
+@Slf4j
+public class StorageTransferManager {
+    @Nonnull
+    @Getter
+    private final TransferOptions options;
+
+    public StorageTransferManager() {
+        this(TransferOptions.builder().build());
+    }
+
+    public StorageTransferManager(@Nonnull TransferOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * upload {@code source} as block blob, blocks are staged in parallel by the SDK.
+     */
+    @Nonnull
+    public Flux<Long> upload(@Nonnull BlobClient client, @Nonnull Path source, boolean overwrite) {
+        return Flux.<Long>create(sink -> {
+            try {
+                final ParallelTransferOptions parallel = new ParallelTransferOptions()
+                    .setBlockSizeLong(this.options.getBlockSize())
+                    .setMaxConcurrency(this.options.getMaxConcurrency())
+                    .setProgressListener(sink::next);
+                final BlobUploadFromFileOptions uploadOptions = new BlobUploadFromFileOptions(source.toString()).setParallelTransferOptions(parallel);
+                if (this.options.isValidateMd5()) {
+                    uploadOptions.setHeaders(new BlobHttpHeaders().setContentMd5(md5(source)));
+                }
+                if (!overwrite) {
+                    uploadOptions.setRequestConditions(new BlobRequestConditions().setIfNoneMatch("*"));
+                }
+                client.uploadFromFileWithResponse(uploadOptions, null, Context.NONE);
+                sink.complete();
+            } catch (final Throwable t) {
+                sink.error(t);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * download blob into {@code dest}, ranges are downloaded in parallel by the SDK and each interrupted range resumes
+     * from the last received offset (up to {@link TransferOptions#getMaxRetries()} times).
+     */
+    @Nonnull
+    public Flux<Long> download(@Nonnull BlobClient client, @Nonnull Path dest) {
+        return Flux.<Long>create(sink -> {
+            try {
+                final com.azure.storage.common.ParallelTransferOptions parallel = new com.azure.storage.common.ParallelTransferOptions()
+                    .setBlockSizeLong(this.options.getBlockSize())
+                    .setMaxConcurrency(this.options.getMaxConcurrency())
+                    .setProgressListener(sink::next);
+                final BlobDownloadToFileOptions downloadOptions = new BlobDownloadToFileOptions(dest.toAbsolutePath().toString())
+                    .setParallelTransferOptions(parallel)
+                    .setDownloadRetryOptions(new DownloadRetryOptions().setMaxRetryRequests(this.options.getMaxRetries()))
+                    .setOpenOptions(new HashSet<>(Arrays.asList(StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)));
+                final BlobProperties properties = client.downloadToFileWithResponse(downloadOptions, null, Context.NONE).getValue();
+                if (this.options.isValidateMd5()) {
+                    validateMd5(dest, properties.getContentMd5());
+                }
+                sink.complete();
+            } catch (final Throwable t) {
+                sink.error(t);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * (re)create file share file with size of {@code source} and upload its content range by range in parallel,
+     * a failed range is retried alone instead of restarting the whole upload.
+     */
+    @Nonnull
+    public Flux<Long> upload(@Nonnull ShareFileClient client, @Nonnull Path source) {
+        final long size = FileUtils.sizeOf(source.toFile());
+        final long rangeSize = Math.min(this.options.getBlockSize(), TransferOptions.MAX_SHARE_RANGE_SIZE);
+        final AtomicLong transferred = new AtomicLong();
+        return Flux.<Long>create(sink -> {
+            try (final FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                client.create(size);
+                Flux.fromIterable(ranges(size, rangeSize))
+                    .flatMap(range -> Mono.fromRunnable(() -> uploadRange(client, channel, range))
+                        .retryWhen(Retry.max(this.options.getMaxRetries()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(Mono.fromRunnable(() -> sink.next(transferred.addAndGet(range.getEnd() - range.getStart() + 1)))), this.options.getMaxConcurrency())
+                    .blockLast();
+                if (this.options.isValidateMd5()) {
+                    client.setProperties(size, new ShareFileHttpHeaders().setContentMd5(md5(source)), null, null);
+                }
+                sink.complete();
+            } catch (final Throwable t) {
+                sink.error(t);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * download file share file into {@code dest} (preallocated to the file size) range by range in parallel,
+     * a failed range is retried alone instead of restarting the whole download.
+     */
+    @Nonnull
+    public Flux<Long> download(@Nonnull ShareFileClient client, @Nonnull Path dest) {
+        final long rangeSize = Math.min(this.options.getBlockSize(), TransferOptions.MAX_SHARE_RANGE_SIZE);
+        final AtomicLong transferred = new AtomicLong();
+        return Flux.<Long>create(sink -> {
+            try {
+                final ShareFileProperties properties = client.getProperties();
+                final long size = properties.getContentLength();
+                try (final FileChannel channel = FileChannel.open(dest, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    if (size > 0) { // preallocate, so that ranges can be written at their own position in any order.
+                        channel.write(ByteBuffer.wrap(new byte[1]), size - 1);
+                    }
+                    Flux.fromIterable(ranges(size, rangeSize))
+                        .flatMap(range -> Mono.fromRunnable(() -> downloadRange(client, channel, range))
+                            .retryWhen(Retry.max(this.options.getMaxRetries()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.fromRunnable(() -> sink.next(transferred.addAndGet(range.getEnd() - range.getStart() + 1)))), this.options.getMaxConcurrency())
+                        .blockLast();
+                    channel.force(false);
+                }
+                if (this.options.isValidateMd5()) {
+                    validateMd5(dest, properties.getContentMd5());
+                }
+                sink.complete();
+            } catch (final Throwable t) {
+                sink.error(t);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @SneakyThrows
+    private static void uploadRange(@Nonnull ShareFileClient client, @Nonnull FileChannel channel, @Nonnull ShareFileRange range) {
+        final int length = (int) (range.getEnd() - range.getStart() + 1);
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, range.getStart() + buffer.position()) < 0) {
+                break;
+            }
+        }
+        try (final InputStream input = new ByteArrayInputStream(buffer.array(), 0, buffer.position())) {
+            client.uploadRangeWithResponse(new ShareFileUploadRangeOptions(input, buffer.position()).setOffset(range.getStart()), null, Context.NONE);
+        }
+    }
+
+    @SneakyThrows
+    private static void downloadRange(@Nonnull ShareFileClient client, @Nonnull FileChannel channel, @Nonnull ShareFileRange range) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream((int) (range.getEnd() - range.getStart() + 1));
+        client.downloadWithResponse(output, range, false, null, Context.NONE);
+        final ByteBuffer buffer = ByteBuffer.wrap(output.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, range.getStart() + buffer.position());
+        }
+    }
+
+    @Nonnull
+    private static List<ShareFileRange> ranges(long size, long rangeSize) {
+        final List<ShareFileRange> ranges = new ArrayList<>();
+        for (long start = 0; start < size; start += rangeSize) {
+            ranges.add(new ShareFileRange(start, Math.min(start + rangeSize, size) - 1));
+        }
+        return ranges;
+    }
+
+    private static void validateMd5(@Nonnull Path file, @Nullable byte[] expected) {
+        if (Objects.isNull(expected) || expected.length == 0) {
+            log.debug("no content MD5 is set on remote, skip validating downloaded file({}).", file);
+            return;
+        }
+        if (!Arrays.equals(expected, md5(file))) {
+            throw new AzureToolkitRuntimeException(String.format("MD5 of downloaded file(%s) doesn't match the remote content MD5.", file));
+        }
+    }
+
+    @Nonnull
+    @SneakyThrows
+    private static byte[] md5(@Nonnull Path file) {
+        final MessageDigest digest = MessageDigest.getInstance("MD5");
+        final byte[] buffer = new byte[64 * 1024];
+        try (final InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            //noinspection StatementWithEmptyBody
+            while (input.read(buffer) != -1) {
+            }
+        }
+        return digest.digest();
+    }
+}
@@ -12,8 +12,11 @@ import com.azure.storage.blob.specialized.BlobClientBase;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.storage.StorageTransferManager;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 import org.apache.commons.lang3.BooleanUtils;
+import reactor.core.publisher.Flux;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -81,7 +84,14 @@ public class BlobFile extends AbstractEmulatableAzResource<BlobFile, IBlobFile,
 
     @Override
     public void download(Path dest) {
-        Optional.ofNullable(this.getClient()).map(c -> c.getBlobClient(this.getPath())).ifPresent(client -> client.downloadToFile(dest.toAbsolutePath().toString()));
+        this.download(dest, TransferOptions.builder().build()).blockLast();
+    }
+
+    @Override
+    public Flux<Long> download(Path dest, TransferOptions options) {
+        return Optional.ofNullable(this.getClient()).map(c -> c.getBlobClient(this.getPath()))
+            .map(client -> new StorageTransferManager(options).download(client, dest))
+            .orElse(Flux.empty());
     }
 
     @Override
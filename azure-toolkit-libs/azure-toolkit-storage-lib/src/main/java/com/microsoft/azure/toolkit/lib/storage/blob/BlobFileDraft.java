@@ -14,7 +14,9 @@ import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeExcep
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import com.microsoft.azure.toolkit.lib.storage.StorageTransferManager;
 import com.microsoft.azure.toolkit.lib.storage.model.StorageFile;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +38,9 @@ public class BlobFileDraft extends BlobFile implements StorageFile.Draft<BlobFil
     private String relativePath;
     @Setter
     private Path sourceFile;
+    @Setter
+    @Nullable
+    private TransferOptions transferOptions;
 
     BlobFileDraft(@Nonnull String name, @Nonnull BlobFileModule module) {
         super(name, module);
@@ -66,7 +71,7 @@ public class BlobFileDraft extends BlobFile implements StorageFile.Draft<BlobFil
         final IAzureMessager messager = AzureMessager.getMessager();
         if (Objects.nonNull(this.sourceFile)) {
             messager.info(AzureString.format("Start uploading file ({0}).", sourceFile.getFileName()));
-            client.uploadFromFile(this.sourceFile.toString());
+            this.getTransferManager().upload(client, this.sourceFile, false).blockLast();
             messager.success(AzureString.format("File ({0}) is successfully uploaded.", sourceFile.getFileName()));
         } else {
             messager.info(AzureString.format("Start creating Blob ({0}).", fullPath));
@@ -90,12 +95,17 @@ public class BlobFileDraft extends BlobFile implements StorageFile.Draft<BlobFil
         final IAzureMessager messager = AzureMessager.getMessager();
         messager.info(AzureString.format("Start updating Blob ({0})", fullPath));
         if (Objects.nonNull(this.sourceFile)) {
-            client.uploadFromFile(this.sourceFile.toString(), true);
+            this.getTransferManager().upload(client, this.sourceFile, true).blockLast();
         }
         messager.info(AzureString.format("Blob ({0}) is successfully updated.", fullPath));
         return Objects.requireNonNull(module.loadResourceFromAzure(this.getName(), this.getParent().getResourceGroupName()));
     }
 
+    @Nonnull
+    private StorageTransferManager getTransferManager() {
+        return new StorageTransferManager(Optional.ofNullable(this.transferOptions).orElseGet(() -> TransferOptions.builder().build()));
+    }
+
     @Override
     public boolean isDirectory() {
         return Optional.ofNullable(this.directory).orElseGet(super::isDirectory);
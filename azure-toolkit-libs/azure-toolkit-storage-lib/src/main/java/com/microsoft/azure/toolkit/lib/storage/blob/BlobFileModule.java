@@ -9,11 +9,16 @@ import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.util.paging.ContinuablePage;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobItemProperties;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.BlobClientBase;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.http.HttpStatus;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -22,7 +27,6 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 public class BlobFileModule extends AbstractEmulatableAzResourceModule<BlobFile, IBlobFile, BlobItem> {
 
@@ -49,10 +53,40 @@ public class BlobFileModule extends AbstractEmulatableAzResourceModule<BlobFile,
     @Nullable
     @Override
     protected BlobItem loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
-        final Stream<BlobItem> resources = Optional.ofNullable(this.getClient()).map(c -> c.listBlobsByHierarchy(this.parent.getPath())).map(PagedIterable::stream).orElse(Stream.empty());
-        return resources
-            .filter(r -> Objects.equals(Paths.get(r.getName()).getFileName().toString(), name))
-            .findAny().orElse(null);
+        final BlobContainerClient client = this.getClient();
+        if (Objects.isNull(client)) {
+            return null;
+        }
+        final String path = Paths.get(this.parent.getPath(), name).toString();
+        try {
+            final BlobProperties properties = client.getBlobClient(path).getProperties();
+            return new BlobItem().setName(path).setIsPrefix(false).setProperties(toItemProperties(properties));
+        } catch (final BlobStorageException e) {
+            if (e.getStatusCode() != HttpStatus.SC_NOT_FOUND) {
+                throw e;
+            }
+        }
+        // no blob with exact name, probe whether it's a virtual directory (a prefix of at least one blob)
+        final String prefix = path + "/";
+        final ListBlobsOptions options = new ListBlobsOptions().setPrefix(prefix).setMaxResultsPerPage(1);
+        return client.listBlobs(options, null).stream().findAny()
+            .map(b -> new BlobItem().setName(prefix).setIsPrefix(true))
+            .orElse(null);
+    }
+
+    @Nonnull
+    private static BlobItemProperties toItemProperties(@Nonnull BlobProperties properties) {
+        return new BlobItemProperties()
+            .setCreationTime(properties.getCreationTime())
+            .setLastModified(properties.getLastModified())
+            .setETag(properties.getETag())
+            .setContentLength(properties.getBlobSize())
+            .setContentType(properties.getContentType())
+            .setContentEncoding(properties.getContentEncoding())
+            .setContentMd5(properties.getContentMd5())
+            .setBlobType(properties.getBlobType())
+            .setAccessTier(properties.getAccessTier())
+            .setAccessTierChangeTime(properties.getAccessTierChangeTime());
     }
 
     @Override
@@ -9,6 +9,8 @@ import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeExcep
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import javax.annotation.Nullable;
 import java.io.OutputStream;
@@ -51,6 +53,13 @@ public interface StorageFile extends AzResource {
 
     void download(Path dest);
 
+    /**
+     * @return accumulated downloaded bytes, download starts on subscription.
+     */
+    default Flux<Long> download(Path dest, TransferOptions options) {
+        return Mono.<Long>fromRunnable(() -> this.download(dest)).flux();
+    }
+
     @Nullable
     default StorageFile getFile(String relativePath) {
         if (StringUtils.isEmpty(relativePath) || StringUtils.equals(relativePath.trim(), ".")) {
@@ -72,5 +81,7 @@ public interface StorageFile extends AzResource {
         void setDirectory(Boolean directory);
 
         void setSourceFile(Path source);
+
+        void setTransferOptions(@Nullable TransferOptions options);
     }
 }
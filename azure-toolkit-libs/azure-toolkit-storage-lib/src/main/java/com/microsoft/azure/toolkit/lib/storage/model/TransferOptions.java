@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.storage.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * tuning of chunked parallel upload/download of storage files.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferOptions {
+    public static final long MB = 1024 * 1024L;
+    /**
+     * max size of a range that can be written to a file share file in one request.
+     */
+    public static final long MAX_SHARE_RANGE_SIZE = 4 * MB;
+    /**
+     * size of each block(blob)/range(file share) transferred in one request.
+     */
+    @Builder.Default
+    private long blockSize = 8 * MB;
+    /**
+     * max number of blocks/ranges transferred in parallel.
+     */
+    @Builder.Default
+    private int maxConcurrency = 8;
+    /**
+     * max number of retries of a single failed block/range before the whole transfer fails.
+     */
+    @Builder.Default
+    private int maxRetries = 3;
+    /**
+     * set content MD5 on upload and verify it on download.
+     */
+    @Builder.Default
+    private boolean validateMd5 = true;
+}
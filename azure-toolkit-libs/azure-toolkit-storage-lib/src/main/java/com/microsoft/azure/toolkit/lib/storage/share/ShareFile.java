@@ -11,7 +11,10 @@ import com.azure.storage.file.share.models.ShareFileItemProperties;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.storage.StorageTransferManager;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
+import reactor.core.publisher.Flux;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -81,10 +84,16 @@ public class ShareFile extends AbstractEmulatableAzResource<ShareFile, IShareFil
 
     @Override
     public void download(Path dest) {
+        this.download(dest, TransferOptions.builder().build()).blockLast();
+    }
+
+    @Override
+    public Flux<Long> download(Path dest, TransferOptions options) {
         final ShareDirectoryClient parentClient = (ShareDirectoryClient) this.getParent().getClient();
         if (!this.isDirectory() && Objects.nonNull(parentClient) && this.exists()) {
-            parentClient.getFileClient(this.getName()).downloadToFile(dest.toAbsolutePath().toString());
+            return new StorageTransferManager(options).download(parentClient.getFileClient(this.getName()), dest);
         }
+        return Flux.empty();
     }
 
     @Override
@@ -13,10 +13,11 @@ import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeExcep
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import com.microsoft.azure.toolkit.lib.storage.StorageTransferManager;
 import com.microsoft.azure.toolkit.lib.storage.model.StorageFile;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.io.FileUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -32,6 +33,9 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
     private Boolean directory;
     @Setter
     private Path sourceFile;
+    @Setter
+    @Nullable
+    private TransferOptions transferOptions;
 
     ShareFileDraft(@Nonnull String name, @Nonnull ShareFileModule module) {
         super(name, module);
@@ -65,7 +69,7 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
         } else {
             if (Objects.nonNull(sourceFile)) {
                 messager.info(AzureString.format("Start uploading file ({0}).", sourceFile.getFileName()));
-                client.createFile(this.getName(), FileUtils.sizeOf(sourceFile.toFile())).uploadFromFile(sourceFile.toString());
+                this.getTransferManager().upload(client.getFileClient(this.getName()), sourceFile).blockLast();
                 messager.success(AzureString.format("File ({0}) is successfully uploaded.", sourceFile.getFileName()));
             } else {
                 messager.info(AzureString.format("Start creating file ({0}).", this.getName()));
@@ -90,14 +94,17 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
         if (Objects.nonNull(this.sourceFile)) {
             final IAzureMessager messager = AzureMessager.getMessager();
             messager.info(AzureString.format("Start updating file ({0})", this.getName()));
-            client.deleteIfExists();
-            client.create(FileUtils.sizeOf(sourceFile.toFile()));
-            client.uploadFromFile(this.sourceFile.toString());
+            this.getTransferManager().upload(client, this.sourceFile).blockLast();
             messager.success(AzureString.format("File ({0}) is successfully updated.", this.getName()));
         }
         return Objects.requireNonNull(module.loadResourceFromAzure(this.getName(), this.getParent().getResourceGroupName()));
     }
 
+    @Nonnull
+    private StorageTransferManager getTransferManager() {
+        return new StorageTransferManager(Optional.ofNullable(this.transferOptions).orElseGet(() -> TransferOptions.builder().build()));
+    }
+
     @Override
     public boolean isDirectory() {
         return Optional.ofNullable(this.directory).orElseGet(super::isDirectory);
@@ -7,19 +7,26 @@ package com.microsoft.azure.toolkit.lib.storage.share;
 
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.util.paging.ContinuablePage;
+import com.azure.storage.file.share.FileSmbProperties;
 import com.azure.storage.file.share.ShareDirectoryClient;
+import com.azure.storage.file.share.models.ShareDirectoryProperties;
 import com.azure.storage.file.share.models.ShareFileItem;
+import com.azure.storage.file.share.models.ShareFileItemProperties;
+import com.azure.storage.file.share.models.ShareFileProperties;
+import com.azure.storage.file.share.models.ShareStorageException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import lombok.Getter;
+import org.apache.http.HttpStatus;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 public class ShareFileModule extends AbstractEmulatableAzResourceModule<ShareFile, IShareFile, ShareFileItem> {
 
@@ -46,11 +53,31 @@ public class ShareFileModule extends AbstractEmulatableAzResourceModule<ShareFil
     @Nullable
     @Override
     protected ShareFileItem loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
-        return Optional.ofNullable(this.getClient())
-            .map(ShareDirectoryClient::listFilesAndDirectories)
-            .map(PagedIterable::stream)
-            .orElse(Stream.empty())
-            .filter(r -> r.getName().equals(name)).findAny().orElse(null);
+        final ShareDirectoryClient client = this.getClient();
+        if (Objects.isNull(client)) {
+            return null;
+        }
+        try {
+            final ShareFileProperties properties = client.getFileClient(name).getProperties();
+            final FileSmbProperties smb = properties.getSmbProperties();
+            return new ShareFileItem(name, false, smb.getFileId(), new ItemProperties(smb, properties.getLastModified(), properties.getETag()),
+                smb.getNtfsFileAttributes(), smb.getFilePermissionKey(), properties.getContentLength());
+        } catch (final ShareStorageException e) {
+            if (e.getStatusCode() != HttpStatus.SC_NOT_FOUND) {
+                throw e;
+            }
+        }
+        try {
+            final ShareDirectoryProperties properties = client.getSubdirectoryClient(name).getProperties();
+            final FileSmbProperties smb = properties.getSmbProperties();
+            return new ShareFileItem(name, true, smb.getFileId(), new ItemProperties(smb, properties.getLastModified(), properties.getETag()),
+                smb.getNtfsFileAttributes(), smb.getFilePermissionKey(), null);
+        } catch (final ShareStorageException e) {
+            if (e.getStatusCode() != HttpStatus.SC_NOT_FOUND) {
+                throw e;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -106,4 +133,30 @@ public class ShareFileModule extends AbstractEmulatableAzResourceModule<ShareFil
     public String getResourceTypeName() {
         return "File";
     }
+
+    /**
+     * {@link ShareFileItemProperties} built from the result of a point lookup (get properties of a single file/directory)
+     */
+    @Getter
+    private static class ItemProperties implements ShareFileItemProperties {
+        private final OffsetDateTime createdOn;
+        private final OffsetDateTime lastWrittenOn;
+        private final OffsetDateTime changedOn;
+        private final OffsetDateTime lastModified;
+        private final String eTag;
+
+        private ItemProperties(@Nonnull FileSmbProperties smb, OffsetDateTime lastModified, String eTag) {
+            this.createdOn = smb.getFileCreationTime();
+            this.lastWrittenOn = smb.getFileLastWriteTime();
+            this.changedOn = smb.getFileChangeTime();
+            this.lastModified = lastModified;
+            this.eTag = eTag;
+        }
+
+        @Override
+        @Nullable
+        public OffsetDateTime getLastAccessedOn() {
+            return null;
+        }
+    }
 }
@@ -6,7 +6,7 @@
 package com.microsoft.azure.maven.webapp.task;
 
 import com.microsoft.azure.maven.model.DeploymentResource;
-import com.microsoft.azure.maven.webapp.utils.FTPUtils;
+import com.microsoft.azure.maven.webapp.utils.FTPUploadPool;
 import com.microsoft.azure.maven.webapp.utils.Utils;
 import com.microsoft.azure.toolkit.lib.appservice.AppServiceAppBase;
 import com.microsoft.azure.toolkit.lib.appservice.model.PublishingProfile;
@@ -15,16 +15,18 @@ import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.task.AzureTask;
-import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Deprecated
 public class DeployExternalResourcesTask extends AzureTask<WebAppBase<?, ?, ?>> {
     private static final String DEPLOY_START = "Trying to deploy external resources to %s...";
     private static final String DEPLOY_FINISH = "Successfully deployed the resources to %s";
+    private static final int MAX_CONCURRENT_UPLOADS = 4;
+    private static final int MAX_RETRIES = 3;
 
     final WebAppBase<?, ?, ?> target;
     final List<DeploymentResource> resources;
@@ -49,21 +51,18 @@ public class DeployExternalResourcesTask extends AzureTask<WebAppBase<?, ?, ?>>
         AzureMessager.getMessager().info(AzureString.format("Uploading resources to %s", target.name()));
         final PublishingProfile publishingProfile = target.getPublishingProfile();
         final String serverUrl = publishingProfile.getFtpUrl().split("/", 2)[0];
-        try {
-            final FTPClient ftpClient = FTPUtils.getFTPClient(serverUrl, publishingProfile.getFtpUsername(), publishingProfile.getFtpPassword());
-            for (final DeploymentResource externalResource : resources) {
-                uploadResource(externalResource, ftpClient);
-            }
-        } catch (IOException e) {
-            throw new AzureToolkitRuntimeException(e);
+        final List<Pair<File, String>> files = new ArrayList<>();
+        for (final DeploymentResource resource : resources) {
+            Utils.getArtifacts(resource).forEach(file -> files.add(Pair.of(file, resource.getAbsoluteTargetPath())));
         }
-    }
-
-    private static void uploadResource(DeploymentResource resource, FTPClient ftpClient) throws IOException {
-        final List<File> files = Utils.getArtifacts(resource);
-        final String target = resource.getAbsoluteTargetPath();
-        for (final File file : files) {
-            FTPUtils.uploadFile(ftpClient, file.getPath(), target);
+        try (final FTPUploadPool pool = new FTPUploadPool(serverUrl, publishingProfile.getFtpUsername(), publishingProfile.getFtpPassword(),
+            MAX_CONCURRENT_UPLOADS, MAX_RETRIES)) {
+            final int skipped = pool.upload(files);
+            if (skipped > 0) {
+                AzureMessager.getMessager().info(AzureString.format("%s of %s resources are skipped since identical ones exist", skipped, files.size()));
+            }
+        } catch (final RuntimeException e) {
+            throw e instanceof AzureToolkitRuntimeException ? e : new AzureToolkitRuntimeException(e);
         }
     }
 }
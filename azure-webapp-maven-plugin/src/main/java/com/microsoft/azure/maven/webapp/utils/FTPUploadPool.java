@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+package com.microsoft.azure.maven.webapp.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.net.ftp.FTPClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * uploads files in parallel through a pool of at most {@code maxConcurrency} FTP sessions, each file is retried alone
+ * on failure and skipped if an identical file already exists. all sessions are closed on {@link #close()}.
+ */
+@Slf4j
+public class FTPUploadPool implements Closeable {
+    private static final String SKIP_IDENTICAL_FILE = "Skip uploading %s, identical file exists in %s";
+
+    private final String server;
+    private final String username;
+    private final String password;
+    private final int maxConcurrency;
+    private final int maxRetries;
+    private final Queue<FTPClient> idle = new ConcurrentLinkedQueue<>();
+    private final List<FTPClient> sessions = new ArrayList<>();
+
+    public FTPUploadPool(final String server, final String username, final String password, final int maxConcurrency, final int maxRetries) {
+        this.server = server;
+        this.username = username;
+        this.password = password;
+        this.maxConcurrency = maxConcurrency;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * @param files pairs of source file and target directory
+     * @return number of files skipped since identical ones already exist.
+     */
+    public int upload(@Nonnull final List<Pair<File, String>> files) {
+        final AtomicInteger skipped = new AtomicInteger();
+        Flux.fromIterable(files)
+            .flatMap(f -> Mono.fromCallable(() -> uploadFile(f.getLeft(), f.getRight()))
+                .retryWhen(Retry.backoff(this.maxRetries, Duration.ofMillis(500)).onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnNext(uploaded -> {
+                    if (!uploaded) {
+                        skipped.incrementAndGet();
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic()), this.maxConcurrency)
+            .blockLast();
+        return skipped.get();
+    }
+
+    /**
+     * @return false if the upload is skipped
+     */
+    private boolean uploadFile(final File file, final String targetDirectory) throws IOException {
+        final FTPClient client = this.borrow();
+        boolean healthy = false;
+        try {
+            final boolean identical = FTPUtils.isIdenticalFileExisting(client, file, targetDirectory);
+            if (identical) {
+                log.info(String.format(SKIP_IDENTICAL_FILE, file.getPath(), targetDirectory));
+            } else {
+                FTPUtils.uploadFile(client, file.getPath(), targetDirectory);
+            }
+            healthy = true;
+            return !identical;
+        } finally {
+            this.release(client, healthy);
+        }
+    }
+
+    private FTPClient borrow() throws IOException {
+        final FTPClient client = this.idle.poll();
+        if (client != null) {
+            return client;
+        }
+        final FTPClient created = FTPUtils.getFTPClient(this.server, this.username, this.password);
+        synchronized (this.sessions) {
+            this.sessions.add(created);
+        }
+        return created;
+    }
+
+    private void release(final FTPClient client, final boolean healthy) {
+        if (healthy && client.isConnected()) {
+            this.idle.offer(client);
+        } else { // drop the session, a failed transfer may leave it in an unknown state.
+            synchronized (this.sessions) {
+                this.sessions.remove(client);
+            }
+            FTPUtils.disconnectQuietly(client);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.sessions) {
+            this.sessions.forEach(FTPUtils::disconnectQuietly);
+            this.sessions.clear();
+        }
+        this.idle.clear();
+    }
+}
@@ -5,8 +5,12 @@
 package com.microsoft.azure.maven.webapp.utils;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
 
 import java.io.File;
 import java.io.IOException;
@@ -14,6 +18,9 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Stack;
 
 // Todo: Merge this class with FTPUploader in lib to reduce duplicate
@@ -23,6 +30,7 @@ public class FTPUtils {
     public static final String REPLY_MESSAGE = "Reply Message : %s";
     public static final String FAILED_TO_UPLOAD_RESOURCE = "Failed to upload file: ";
     public static final String UPLOADING_RESOURCE = "Uploading resource %s to %s";
+    private static final String HASH = "HASH";
 
     public static FTPClient getFTPClient(final String ftpServer, final String username, final String password)
             throws IOException {
@@ -51,6 +59,53 @@ public class FTPUtils {
         }
     }
 
+    /**
+     * @return true if a file with the same name and size exists in {@code targetFilePath} and the server can prove
+     * (via the `HASH` extension) that their content is identical.
+     */
+    public static boolean isIdenticalFileExisting(final FTPClient ftpClient, final File sourceFile,
+                                                  final String targetFilePath) throws IOException {
+        changeDirectoryWithCreate(ftpClient, targetFilePath);
+        final String size = ftpClient.getSize(sourceFile.getName());
+        if (StringUtils.isBlank(size) || !StringUtils.equals(size.trim(), String.valueOf(sourceFile.length()))) {
+            return false;
+        }
+        if (!ftpClient.hasFeature(HASH) || ftpClient.sendCommand(HASH, sourceFile.getName()) != FTPReply.FILE_STATUS) {
+            return false; // content can't be verified
+        }
+        // e.g. "213 SHA-256 0-49 169cd22282da7f147cb491e559e9dd 1.txt"
+        final String[] reply = StringUtils.split(ftpClient.getReplyString().trim(), ' ');
+        if (reply.length < 4) {
+            return false;
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(reply[1]);
+            try (final InputStream is = new DigestInputStream(Files.newInputStream(sourceFile.toPath()), digest)) {
+                IOUtils.consume(is);
+            }
+            return StringUtils.equalsIgnoreCase(Hex.encodeHexString(digest.digest()), reply[3]);
+        } catch (final NoSuchAlgorithmException e) {
+            log.debug("unsupported hash algorithm: {}", reply[1]);
+            return false;
+        }
+    }
+
+    public static void disconnectQuietly(final FTPClient ftpClient) {
+        if (!ftpClient.isConnected()) {
+            return;
+        }
+        try {
+            ftpClient.logout();
+        } catch (final IOException e) {
+            log.debug("failed to logout from FTP server", e);
+        }
+        try {
+            ftpClient.disconnect();
+        } catch (final IOException e) {
+            log.debug("failed to disconnect from FTP server", e);
+        }
+    }
+
     private static void changeDirectoryWithCreate(final FTPClient ftpClient, String targetPath) throws IOException {
         final Stack<Path> pathStacks = new Stack<>();
         Path path = Paths.get(targetPath);